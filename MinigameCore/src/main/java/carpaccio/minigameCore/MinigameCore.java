@@ -3,7 +3,10 @@ package carpaccio.minigameCore;
 import carpaccio.minigameCore.commands.MiniCoreCommand;
 import carpaccio.minigameCore.core.MobSpawnManager;
 import carpaccio.minigameCore.core.mobs.MobManager;
+import carpaccio.minigameCore.listeners.ChunkCoverageListener;
 import carpaccio.minigameCore.listeners.CustomMobDeathListener;
+import carpaccio.minigameCore.listeners.SpawnSurfaceListener;
+import carpaccio.minigameCore.listeners.TrackedMobListener;
 import carpaccio.minigameCore.manager.ConfigManager;
 import carpaccio.minigameCore.utils.RegionPreview;
 import carpaccio.minigameCore.utils.SelectionManager;
@@ -18,12 +21,8 @@ public final class MinigameCore extends JavaPlugin {
     @Override
     public void onEnable() {
 
-        // Starting Managers
-        MobManager mobManager = new MobManager();
-        spawnManager = new MobSpawnManager(this, mobManager);
-        SelectionManager selectionManager = new SelectionManager();
-        RegionPreview regionPreview = new RegionPreview(this);
-        CustomMobDeathListener deathListener = new CustomMobDeathListener(this, mobManager);
+        // Mobs e LootTables são carregados antes das áreas, que resolvem seus mobs ao carregar
+        MobManager mobManager = new MobManager(this);
 
         // Config Manager
         //ConfigManager.setupConfig(this);
@@ -32,9 +31,21 @@ public final class MinigameCore extends JavaPlugin {
         ConfigManager.loadLootTables(this, getConfig(), mobManager);
         ConfigManager.loadCustomMobs(getConfig() , mobManager);
 
+        // Starting Managers
+        spawnManager = new MobSpawnManager(this, mobManager);
+        SelectionManager selectionManager = new SelectionManager();
+        RegionPreview regionPreview = new RegionPreview(this);
+        CustomMobDeathListener deathListener = new CustomMobDeathListener(this, mobManager);
+        SpawnSurfaceListener surfaceListener = new SpawnSurfaceListener(spawnManager);
+        ChunkCoverageListener chunkListener = new ChunkCoverageListener(spawnManager);
+        TrackedMobListener trackedMobListener = new TrackedMobListener(spawnManager);
+
         // Listeners
         Bukkit.getPluginManager().registerEvents(selectionManager, this);
         Bukkit.getPluginManager().registerEvents(deathListener, this);
+        Bukkit.getPluginManager().registerEvents(surfaceListener, this);
+        Bukkit.getPluginManager().registerEvents(chunkListener, this);
+        Bukkit.getPluginManager().registerEvents(trackedMobListener, this);
 
         // Commands
         getCommand("minicore").setExecutor(new MiniCoreCommand(spawnManager, selectionManager, regionPreview));
@@ -49,7 +60,7 @@ public final class MinigameCore extends JavaPlugin {
     @Override
     public void onDisable() {
         if (spawnManager != null) {
-            spawnManager.shutdownAll();
+            spawnManager.shutdown();
         }
 
         getLogger().info("Minigame Core Deactivated!");
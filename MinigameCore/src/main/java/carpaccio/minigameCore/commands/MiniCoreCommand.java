@@ -2,6 +2,10 @@ package carpaccio.minigameCore.commands;
 
 import carpaccio.minigameCore.core.MobSpawnManager;
 import carpaccio.minigameCore.core.MobSpawnSystem;
+import carpaccio.minigameCore.core.loot.LootBenchmark;
+import carpaccio.minigameCore.core.loot.LootTable;
+import carpaccio.minigameCore.core.mobs.CustomMob;
+import carpaccio.minigameCore.core.mobs.SpawnBenchmark;
 import carpaccio.minigameCore.utils.RegionPreview;
 import carpaccio.minigameCore.utils.SelectionManager;
 import org.bukkit.Color;
@@ -11,6 +15,8 @@ import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
+import java.util.List;
+
 public class MiniCoreCommand implements CommandExecutor {
 
     private final MobSpawnManager spawnManager;
@@ -113,6 +119,23 @@ public class MiniCoreCommand implements CommandExecutor {
                     handleStats(p);
                     break;
 
+                case "schedule":
+                    handleSchedule(p, args);
+                    break;
+
+                case "bench":
+                    handleBench(p, args);
+                    break;
+
+                case "benchloot":
+                    handleBenchLoot(p, args);
+                    break;
+
+                case "reconcile":
+                    p.sendMessage("§e=== Conciliação de Mobs ===");
+                    spawnManager.getReconciliationReport().forEach(p::sendMessage);
+                    break;
+
                 default:
                     p.sendMessage("§cComando inválido! Use /minicore para ver os comandos.");
             }
@@ -274,7 +297,7 @@ public class MiniCoreCommand implements CommandExecutor {
     private void handleList(Player p) {
         p.sendMessage("§e=== Áreas de Spawn ===");
 
-        java.util.List<String> areas = spawnManager.listAreas();
+        List<String> areas = spawnManager.listAreas();
 
         if (areas.isEmpty()) {
             p.sendMessage("§7Nenhuma área cadastrada");
@@ -287,7 +310,7 @@ public class MiniCoreCommand implements CommandExecutor {
 
     private void handleUpdate(Player p, String[] args) {
         if (args.length < 4) {
-            p.sendMessage("§cUso: /minicore update <nome> <max> <interval>");
+            p.sendMessage("§cUso: /minicore update <nome> <max> <interval> [check]");
             return;
         }
 
@@ -297,10 +320,17 @@ public class MiniCoreCommand implements CommandExecutor {
             int maxMobs = Integer.parseInt(args[2]);
             int interval = Integer.parseInt(args[3]);
 
-            if (spawnManager.updateArea(name, maxMobs, interval)) {
+            boolean updated = args.length >= 5
+                    ? spawnManager.updateArea(name, maxMobs, interval, Integer.parseInt(args[4]))
+                    : spawnManager.updateArea(name, maxMobs, interval);
+
+            if (updated) {
                 p.sendMessage("§aÁrea '" + name + "' atualizada!");
                 p.sendMessage("§6Max Mobs: §f" + maxMobs);
                 p.sendMessage("§6Intervalo: §f" + interval + " ticks");
+                if (args.length >= 5) {
+                    p.sendMessage("§6Verificação: §f" + args[4] + " ticks");
+                }
             } else {
                 p.sendMessage("§cÁrea não encontrada!");
             }
@@ -314,6 +344,22 @@ public class MiniCoreCommand implements CommandExecutor {
         p.sendMessage("§6Total de Áreas: §f" + spawnManager.getAreaNames().size());
         p.sendMessage("§6Áreas Ativas: §f" + spawnManager.getActiveAreasCount());
         p.sendMessage("§6Total de Mobs: §f" + spawnManager.getTotalMobs());
+        p.sendMessage("§6Spawns no último tick: §f" + spawnManager.getSpawnBudget().getSpawnsLastTick()
+                + " §7(" + spawnManager.getSpawnBudget().getNanosLastTick() / 1000 + "µs)");
+        p.sendMessage("§6Áreas na fila de spawn: §f" + spawnManager.getSpawnBudget().getQueuedAreas());
+        if (spawnManager.getThrottle().isEnabled()) {
+            p.sendMessage(String.format("§6Throttle: §f%s §7(MSPT %.1f, TPS %.1f, pressão %.0f%%)",
+                    spawnManager.getThrottle().isDegraded() ? "§cdegradado" : "§anormal",
+                    spawnManager.getThrottle().getLastMspt(),
+                    spawnManager.getThrottle().getLastTps(),
+                    spawnManager.getThrottle().getPressure() * 100));
+        }
+        if (spawnManager.getReaper().isEnabled()) {
+            p.sendMessage("§6Coletor: §f" + spawnManager.getReaper().getScanned() + " entradas verificadas"
+                    + " §7(" + spawnManager.getReaper().getStaleDead() + " mortas, "
+                    + spawnManager.getReaper().getStaleLost() + " perdidas, "
+                    + spawnManager.getReaper().getLaps() + " voltas)");
+        }
         p.sendMessage("");
         p.sendMessage("§6Áreas Ativas:");
         spawnManager.getActiveAreas().forEach(name ->
@@ -321,6 +367,83 @@ public class MiniCoreCommand implements CommandExecutor {
         );
     }
 
+    private void handleSchedule(Player p, String[] args) {
+        int ticks = 20;
+        if (args.length >= 2) {
+            try {
+                ticks = Math.max(1, Integer.parseInt(args[1]));
+            } catch (NumberFormatException e) {
+                p.sendMessage("§cValores inválidos!");
+                return;
+            }
+        }
+
+        p.sendMessage("§e=== Agenda (próximos " + ticks + " ticks) ===");
+        p.sendMessage("§6Trabalhos agendados: §f" + spawnManager.getScheduler().getJobCount());
+
+        List<String> work = spawnManager.getScheduledWork(ticks);
+        if (work.isEmpty()) {
+            p.sendMessage("§7Nenhum trabalho no período");
+        } else {
+            work.forEach(p::sendMessage);
+        }
+    }
+
+    private void handleBench(Player p, String[] args) {
+        if (args.length < 2) {
+            p.sendMessage("§cUso: /minicore bench <mob> [quantidade]");
+            return;
+        }
+
+        CustomMob mob = spawnManager.getMobManager().getCustomMob(args[1]);
+        if (mob == null) {
+            p.sendMessage("§cMob não encontrado!");
+            return;
+        }
+
+        int count = 100;
+        if (args.length >= 3) {
+            try {
+                count = Math.max(1, Math.min(1000, Integer.parseInt(args[2])));
+            } catch (NumberFormatException e) {
+                p.sendMessage("§cValores inválidos!");
+                return;
+            }
+        }
+
+        p.sendMessage("§e=== Benchmark de spawn: " + args[1] + " (" + count + "x) ===");
+        for (SpawnBenchmark.Result result : SpawnBenchmark.run(mob, p.getLocation(), count)) {
+            p.sendMessage(String.format("§6%s: §f%.1fµs/spawn §7(%.1f atualizações pós-spawn, ~%.1f pacotes extras)",
+                    result.getName(), result.getMicrosPerSpawn(),
+                    result.getUpdatesPerSpawn(), result.getPacketsPerSpawn()));
+        }
+    }
+
+    private void handleBenchLoot(Player p, String[] args) {
+        String id = args.length >= 2 ? args[1] : "zombie_boss";
+        LootTable table = spawnManager.getMobManager().getLootTable(id);
+        if (table == null) {
+            p.sendMessage("§cLootTable não encontrada!");
+            return;
+        }
+
+        int rounds = 10000;
+        if (args.length >= 3) {
+            try {
+                rounds = Math.max(1, Math.min(1000000, Integer.parseInt(args[2])));
+            } catch (NumberFormatException e) {
+                p.sendMessage("§cValores inválidos!");
+                return;
+            }
+        }
+
+        p.sendMessage("§e=== Benchmark de loot: " + id + " (" + rounds + " rodadas) ===");
+        for (LootBenchmark.Result result : LootBenchmark.run(table, rounds)) {
+            p.sendMessage(String.format("§6%s: §f%.0fns/item §7(%d itens)",
+                    result.getName(), result.getNanosPerDrop(), result.getDrops()));
+        }
+    }
+
     private void sendHelp(Player p) {
         p.sendMessage("§e=== Mob Spawn Manager ===");
         p.sendMessage("§6/minicore wand §f- Recebe a varinha de seleção");
@@ -334,12 +457,16 @@ public class MiniCoreCommand implements CommandExecutor {
         p.sendMessage("§6/minicore clear <nome> §f- Limpa mobs de uma área");
         p.sendMessage("§6/minicore info <nome> §f- Informações da área");
         p.sendMessage("§6/minicore list §f- Lista todas as áreas");
-        p.sendMessage("§6/minicore update <nome> <max> <interval> §f- Atualiza área");
+        p.sendMessage("§6/minicore update <nome> <max> <interval> [check] §f- Atualiza área");
         p.sendMessage("§6/minicore startall §f- Inicia todas as áreas");
         p.sendMessage("§6/minicore stopall §f- Para todas as áreas");
         p.sendMessage("§6/minicore clearall §f- Limpa todos os mobs");
         p.sendMessage("§6/minicore reload §f- Recarrega configuração");
         p.sendMessage("§6/minicore stats §f- Estatísticas globais");
+        p.sendMessage("§6/minicore schedule [ticks] §f- Trabalhos agendados por tick");
+        p.sendMessage("§6/minicore reconcile §f- Mobs vivos, suspensos e perdidos por área");
+        p.sendMessage("§6/minicore bench <mob> [quantidade] §f- Compara o spawn antigo com o pré-configurado");
+        p.sendMessage("§6/minicore benchloot [tabela] [rodadas] §f- Compara a montagem de loot por drop com o item base");
     }
 }
 
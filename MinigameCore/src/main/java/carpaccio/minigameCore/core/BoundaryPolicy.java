@@ -0,0 +1,25 @@
+package carpaccio.minigameCore.core;
+
+/**
+ * O que fazer com um mob que saiu dos limites da sua área
+ */
+public enum BoundaryPolicy {
+    /** Teleporta o mob para o ponto mais próximo dentro da área */
+    TELEPORT,
+    /** Aplica uma velocidade em direção ao interior da área */
+    PUSH,
+    /** Remove o mob (a área spawna outro no lugar) */
+    REMOVE;
+
+    /**
+     * Converte um texto da configuração, usando REMOVE se for inválido
+     */
+    public static BoundaryPolicy fromString(String value) {
+        if (value == null) return REMOVE;
+        try {
+            return valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return REMOVE;
+        }
+    }
+}
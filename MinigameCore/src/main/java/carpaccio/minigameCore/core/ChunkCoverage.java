@@ -0,0 +1,165 @@
+package carpaccio.minigameCore.core;
+
+import org.bukkit.World;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Acompanha quais chunks de uma área estão carregados
+ * Mantém uma lista densa dos chunks carregados para sortear um deles em O(1)
+ * Chunks da caixa envolvente sem nenhuma coluna da forma nunca entram na lista
+ */
+public class ChunkCoverage {
+
+    // Tentativas de sorteio de uma coluna carregada antes de desistir (cada uma é sem viés)
+    private static final int COLUMN_SAMPLE_ATTEMPTS = 16;
+
+    private final int minChunkX;
+    private final int minChunkZ;
+    private final int sizeX;
+    private final int sizeZ;
+
+    // Posição de chunks que a forma não ocupa
+    private static final int OUTSIDE = -2;
+
+    // Lista densa de índices carregados e a posição de cada índice nela (-1 = descarregado)
+    private final int[] loadedList;
+    private final int[] positions;
+    private final int totalChunks;
+    private int loadedCount;
+
+    // ==========================================
+    // CONSTRUTOR
+    // ==========================================
+
+    public ChunkCoverage(RegionGeometry geometry) {
+        this.minChunkX = geometry.getMinX() >> 4;
+        this.minChunkZ = geometry.getMinZ() >> 4;
+        this.sizeX = (geometry.getMaxX() >> 4) - minChunkX + 1;
+        this.sizeZ = (geometry.getMaxZ() >> 4) - minChunkZ + 1;
+
+        this.loadedList = new int[sizeX * sizeZ];
+        this.positions = new int[sizeX * sizeZ];
+        Arrays.fill(positions, -1);
+        this.loadedCount = 0;
+
+        int occupied = positions.length;
+        if (!geometry.isFull()) {
+            for (int index = 0; index < positions.length; index++) {
+                if (!geometry.hasColumnsInChunk(getChunkX(index), getChunkZ(index))) {
+                    positions[index] = OUTSIDE;
+                    occupied--;
+                }
+            }
+        }
+        this.totalChunks = occupied;
+    }
+
+    // ==========================================
+    // GETTERS
+    // ==========================================
+
+    /** Total de chunks que a área toca */
+    public int getTotalChunks() { return totalChunks; }
+
+    /** Quantos chunks da área estão carregados */
+    public int getLoadedCount() { return loadedCount; }
+
+    /** Se nenhum chunk da área está carregado */
+    public boolean isEmpty() { return loadedCount == 0; }
+
+    /** Verifica se o chunk pertence à área */
+    public boolean containsChunk(int chunkX, int chunkZ) {
+        return chunkX >= minChunkX && chunkX < minChunkX + sizeX
+                && chunkZ >= minChunkZ && chunkZ < minChunkZ + sizeZ;
+    }
+
+    /** Verifica se o chunk está carregado segundo a cobertura */
+    public boolean isLoaded(int chunkX, int chunkZ) {
+        return containsChunk(chunkX, chunkZ) && positions[index(chunkX, chunkZ)] >= 0;
+    }
+
+    // ==========================================
+    // PRINCIPAIS
+    // ==========================================
+
+    /** Lê o estado atual dos chunks no mundo (não carrega nenhum chunk) */
+    public void scan(World world) {
+        for (int dz = 0; dz < sizeZ; dz++) {
+            for (int dx = 0; dx < sizeX; dx++) {
+                setLoaded(minChunkX + dx, minChunkZ + dz, world.isChunkLoaded(minChunkX + dx, minChunkZ + dz));
+            }
+        }
+    }
+
+    /** Atualiza o estado de um chunk (chamado pelos eventos de load/unload) */
+    public void setLoaded(int chunkX, int chunkZ, boolean loaded) {
+        if (!containsChunk(chunkX, chunkZ)) return;
+
+        int index = index(chunkX, chunkZ);
+        int position = positions[index];
+        if (position == OUTSIDE) return;
+
+        if (loaded && position == -1) {
+            loadedList[loadedCount] = index;
+            positions[index] = loadedCount;
+            loadedCount++;
+        } else if (!loaded && position != -1) {
+            // Remove trocando com o último da lista
+            int last = loadedList[--loadedCount];
+            loadedList[position] = last;
+            positions[last] = position;
+            positions[index] = -1;
+        }
+    }
+
+    /**
+     * Sorteia uma coluna uniforme entre as colunas da forma que estão em chunks carregados
+     * Cada tentativa faz duas amostras sem viés: uma coluna da forma inteira (rejeitada se o chunk
+     * estiver descarregado) e uma coluna de um chunk carregado (rejeitada se estiver fora da forma)
+     * A primeira acerta quando quase tudo está carregado, a segunda quando poucos chunks estão
+     *
+     * @return A coluna (use RegionGeometry.columnX/columnZ), ou NO_COLUMN se nenhuma tentativa acertou
+     */
+    public long randomLoadedColumn(Random random, RegionGeometry geometry) {
+        if (loadedCount == 0) return RegionGeometry.NO_COLUMN;
+
+        for (int i = 0; i < COLUMN_SAMPLE_ATTEMPTS; i++) {
+            long column = geometry.randomColumn(random);
+            if (column != RegionGeometry.NO_COLUMN
+                    && isLoaded(RegionGeometry.columnX(column) >> 4, RegionGeometry.columnZ(column) >> 4)) {
+                return column;
+            }
+
+            int chunk = loadedList[random.nextInt(loadedCount)];
+            column = geometry.randomColumnInChunk(random, getChunkX(chunk), getChunkZ(chunk));
+            if (column != RegionGeometry.NO_COLUMN) return column;
+        }
+        return RegionGeometry.NO_COLUMN;
+    }
+
+    /**
+     * Chunk carregado na posição informada da lista densa (0 até getLoadedCount() - 1)
+     * @return Índice do chunk (use getChunkX/getChunkZ)
+     */
+    public int getLoadedChunk(int position) {
+        return loadedList[position];
+    }
+
+    public int getChunkX(int index) {
+        return minChunkX + index % sizeX;
+    }
+
+    public int getChunkZ(int index) {
+        return minChunkZ + index / sizeX;
+    }
+
+    // ==========================================
+    // PRIVADAS
+    // ==========================================
+
+    private int index(int chunkX, int chunkZ) {
+        return (chunkZ - minChunkZ) * sizeX + (chunkX - minChunkX);
+    }
+}
@@ -0,0 +1,25 @@
+package carpaccio.minigameCore.core;
+
+/**
+ * O que fazer com os mobs de uma área quando ela fica dormente (nenhum jogador por perto)
+ */
+public enum DormantAction {
+    /** Mantém os mobs como estão */
+    NONE,
+    /** Remove todos os mobs da área */
+    DESPAWN,
+    /** Desliga a IA dos mobs até a área acordar */
+    FREEZE;
+
+    /**
+     * Converte um texto da configuração, usando NONE se for inválido
+     */
+    public static DormantAction fromString(String value) {
+        if (value == null) return NONE;
+        try {
+            return valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return NONE;
+        }
+    }
+}
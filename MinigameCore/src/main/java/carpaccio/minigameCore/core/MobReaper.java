@@ -0,0 +1,98 @@
+package carpaccio.minigameCore.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Coletor incremental de entradas obsoletas no rastreamento dos sistemas de spawn
+ * A cada tick examina no máximo 'budget' entradas, em rodízio entre as áreas, e descarta as de
+ * entidades mortas ou inválidas (inclusive em áreas paradas, dormentes ou pausadas, que não verificam)
+ */
+public class MobReaper {
+
+    private final int budget;
+
+    // Áreas da volta atual; a lista é refeita ao terminar cada volta
+    private final List<MobSpawnSystem> rotation;
+    private int position;
+
+    private long scanned;
+    private long staleDead;
+    private long staleLost;
+    private long laps;
+
+    // ==========================================
+    // CONSTRUTOR
+    // ==========================================
+
+    /**
+     * @param budget Entradas examinadas por tick (0 desliga o coletor)
+     */
+    public MobReaper(int budget) {
+        this.budget = Math.max(0, budget);
+        this.rotation = new ArrayList<>();
+        this.position = 0;
+    }
+
+    // ==========================================
+    // GETTERS
+    // ==========================================
+
+    public boolean isEnabled() { return budget > 0; }
+
+    public int getBudget() { return budget; }
+
+    /** Total de entradas examinadas */
+    public long getScanned() { return scanned; }
+
+    /** Entradas obsoletas de mobs mortos */
+    public long getStaleDead() { return staleDead; }
+
+    /** Entradas obsoletas de mobs que sumiram sem morrer */
+    public long getStaleLost() { return staleLost; }
+
+    /** Voltas completas por todas as áreas */
+    public long getLaps() { return laps; }
+
+    // ==========================================
+    // PRINCIPAIS
+    // ==========================================
+
+    /** Executa um passo do coletor dentro do orçamento do tick */
+    public void tick(Collection<MobSpawnSystem> systems) {
+        if (budget <= 0) return;
+
+        int remaining = budget;
+        int visited = 0;
+
+        while (remaining > 0) {
+            if (position >= rotation.size()) {
+                rotation.clear();
+                rotation.addAll(systems);
+                position = 0;
+                laps++;
+                if (rotation.isEmpty()) return;
+            }
+
+            // Cada área no máximo uma vez por tick
+            if (visited++ > rotation.size()) return;
+
+            int used = rotation.get(position).reapStep(remaining, this);
+            scanned += used;
+            remaining -= used;
+
+            // Usou menos que o disponível: a área terminou sua lista, passa para a próxima
+            if (remaining > 0) position++;
+        }
+    }
+
+    /** Registra uma entrada obsoleta descartada */
+    void recordStale(boolean dead) {
+        if (dead) {
+            staleDead++;
+        } else {
+            staleLost++;
+        }
+    }
+}
@@ -4,11 +4,19 @@ import carpaccio.minigameCore.MinigameCore;
 
 import carpaccio.minigameCore.core.mobs.MobManager;
 import carpaccio.minigameCore.manager.ConfigManager;
+import carpaccio.minigameCore.utils.CompositeRegion;
+import carpaccio.minigameCore.utils.Cuboid;
+import carpaccio.minigameCore.utils.CylinderRegion;
+import carpaccio.minigameCore.utils.PolygonRegion;
+import carpaccio.minigameCore.utils.Region;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
+import org.bukkit.entity.LivingEntity;
 
 import java.io.File;
 import java.io.IOException;
@@ -24,11 +32,26 @@ public class MobSpawnManager {
     private final MinigameCore plugin;
     private final Map<String, MobSpawnSystem> spawnSystems;
     private final Map<String, SpawnArea> spawnAreas;
+    private final SpawnAreaIndex areaIndex;
     private final File configFile;
     private FileConfiguration config;
 
     private final MobManager mobManager;
 
+    private final SpawnScheduler scheduler;
+    private final SpawnBudget spawnBudget;
+    private final SpawnThrottle throttle;
+    private final SpawnSearchPool searchPool;
+    private final boolean chunkAware;
+    private final PlayerProximityIndex proximityIndex;
+
+    // Mob spawnado -> sistema dono, para repassar eventos de entidade sem varrer as áreas
+    private final Map<UUID, MobSpawnSystem> mobOwners;
+    private final int proximityRefreshInterval;
+    private final int checkSliceSize;
+    private final MobReaper reaper;
+    private int tickTaskId;
+
     // ==========================================
     // CONSTRUTOR
     // ==========================================
@@ -42,10 +65,24 @@ public class MobSpawnManager {
         this.plugin = plugin;
         this.spawnSystems = new HashMap<>();
         this.spawnAreas = new HashMap<>();
+        this.areaIndex = new SpawnAreaIndex();
         this.configFile = new File(plugin.getDataFolder(), "spawn_areas.yml");
 
         this.mobManager = mobManager;
 
+        // Uma única tarefa do Bukkit dirige o spawn e a verificação de todas as áreas
+        this.scheduler = new SpawnScheduler(plugin.getLogger());
+        this.spawnBudget = ConfigManager.loadSpawnBudget(plugin, plugin.getConfig());
+        this.throttle = ConfigManager.loadSpawnThrottle(plugin, plugin.getConfig());
+        this.searchPool = ConfigManager.loadSpawnSearch(plugin, plugin.getConfig());
+        this.chunkAware = plugin.getConfig().getBoolean("chunk_aware_spawning", true);
+        this.proximityIndex = new PlayerProximityIndex();
+        this.mobOwners = new HashMap<>();
+        this.proximityRefreshInterval = Math.max(1, plugin.getConfig().getInt("proximity_refresh_interval", 20));
+        this.checkSliceSize = Math.max(1, plugin.getConfig().getInt("boundary_check_slice", 32));
+        this.reaper = new MobReaper(plugin.getConfig().getInt("reaper_budget", 32));
+        this.tickTaskId = Bukkit.getScheduler().scheduleSyncRepeatingTask(plugin, this::tick, 1L, 1L);
+
         loadConfig();
     }
 
@@ -60,6 +97,62 @@ public class MobSpawnManager {
         return spawnSystems.get(name);
     }
 
+    /**
+     * Obtém o gerenciador de mobs customizados
+     */
+    public MobManager getMobManager() {
+        return mobManager;
+    }
+
+    /**
+     * Obtém o agendador compartilhado por todos os sistemas
+     */
+    public SpawnScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Obtém o orçamento global de spawn por tick
+     */
+    public SpawnBudget getSpawnBudget() {
+        return spawnBudget;
+    }
+
+    /**
+     * Obtém o throttle adaptativo (MSPT/TPS)
+     */
+    public SpawnThrottle getThrottle() {
+        return throttle;
+    }
+
+    /**
+     * Obtém o pool da busca assíncrona de pontos de spawn
+     */
+    public SpawnSearchPool getSearchPool() {
+        return searchPool;
+    }
+
+    /**
+     * Se o spawn só usa chunks já carregados (e pausa áreas sem nenhum chunk carregado)
+     */
+    public boolean isChunkAware() {
+        return chunkAware;
+    }
+
+    /**
+     * Obtém o coletor incremental de entradas obsoletas
+     */
+    public MobReaper getReaper() {
+        return reaper;
+    }
+
+    /**
+     * Máximo de mobs verificados por tick em cada área (verificação de limites em rodízio)
+     */
+    public int getCheckSliceSize() {
+        return checkSliceSize;
+    }
+
     /**
      * Obtém uma área de spawn pelo nome
      */
@@ -67,6 +160,21 @@ public class MobSpawnManager {
         return spawnAreas.get(name);
     }
 
+    /**
+     * Obtém o índice espacial das áreas (contenção, sobreposição e área mais próxima)
+     */
+    public SpawnAreaIndex getAreaIndex() {
+        return areaIndex;
+    }
+
+    /**
+     * Obtém as áreas cuja coluna X/Z contém a localização
+     */
+    public List<SpawnArea> getAreasAt(Location location) {
+        if (location.getWorld() == null) return Collections.emptyList();
+        return areaIndex.getAreasAt(location.getWorld().getName(), location.getBlockX(), location.getBlockZ());
+    }
+
     /**
      * Obtém todos os nomes de áreas registradas
      */
@@ -131,9 +239,10 @@ public class MobSpawnManager {
         // Cria a área
         SpawnArea area = new SpawnArea(name, pos1, pos2, mobList, maxMobs, spawnInterval, checkInterval);
         spawnAreas.put(name, area);
+        areaIndex.add(area);
 
         // Cria o sistema
-        MobSpawnSystem system = new MobSpawnSystem(plugin, area, mobManager);
+        MobSpawnSystem system = new MobSpawnSystem(plugin, area, mobManager, this);
         spawnSystems.put(name, system);
 
         saveConfig();
@@ -154,6 +263,7 @@ public class MobSpawnManager {
 
         SpawnArea area = spawnAreas.remove(name);
         if (area != null) {
+            areaIndex.remove(area);
             saveConfig();
             return true;
         }
@@ -215,12 +325,25 @@ public class MobSpawnManager {
      * Atualiza as configurações de uma área
      */
     public boolean updateArea(String name, int maxMobs, int spawnInterval) {
+        MobSpawnSystem system = spawnSystems.get(name);
+        if (system == null) return false;
+
+        return updateArea(name, maxMobs, spawnInterval, system.getArea().getCheckInterval());
+    }
+
+    /**
+     * Atualiza as configurações de uma área, incluindo o intervalo de verificação
+     * Os novos intervalos passam a valer imediatamente, sem reiniciar a área
+     */
+    public boolean updateArea(String name, int maxMobs, int spawnInterval, int checkInterval) {
         MobSpawnSystem system = spawnSystems.get(name);
         //SpawnArea area = spawnAreas.get(name);
 
         if (system != null) {
             system.getArea().setMaxMobs(maxMobs);
             system.getArea().setSpawnInterval(spawnInterval);
+            system.getArea().setCheckInterval(checkInterval);
+            system.reschedule();
 
             //area.setMaxMobs(maxMobs);
             //area.setSpawnInterval(spawnInterval);
@@ -239,7 +362,8 @@ public class MobSpawnManager {
         //SpawnArea area = spawnAreas.get(name);
 
         if (system != null) {
-            system.getArea().setMobList(mob_id);
+            system.getArea().setMobEntries(Arrays.asList(mob_id));
+            system.resolveMobs();
             //area.setAllowedMobs(mobs);
 
             saveConfig();
@@ -248,6 +372,123 @@ public class MobSpawnManager {
         return false;
     }
 
+    /**
+     * Repassa uma mudança de bloco para os caches de superfície e para as buscas de pontos das áreas
+     */
+    public void onBlockChange(String worldName, int x, int y, int z) {
+        for (SpawnArea area : areaIndex.getAreasInChunk(worldName, x >> 4, z >> 4)) {
+            area.onBlockChange(worldName, x, y, z);
+
+            MobSpawnSystem system = spawnSystems.get(area.getRegionName());
+            if (system != null) system.onBlockChange(x, y, z);
+        }
+    }
+
+    /**
+     * Esquece o World em cache das áreas de um mundo que carregou ou descarregou
+     */
+    public void onWorldChange(String worldName) {
+        for (SpawnArea area : spawnAreas.values()) {
+            if (area.getGeometry() != null && worldName.equals(area.getGeometry().getWorldName())) {
+                area.getGeometry().invalidateWorld();
+            }
+        }
+    }
+
+    /**
+     * Repassa o load/unload de um chunk para a cobertura de chunks das áreas
+     */
+    public void onChunkChange(String worldName, int chunkX, int chunkZ, boolean loaded) {
+        for (SpawnArea area : areaIndex.getAreasInChunk(worldName, chunkX, chunkZ)) {
+            area.onChunkChange(worldName, chunkX, chunkZ, loaded);
+        }
+    }
+
+    /**
+     * Renova a referência direta de um mob rastreado que entrou no mundo
+     */
+    public void onEntityAdded(Entity entity) {
+        MobSpawnSystem owner = mobOwners.get(entity.getUniqueId());
+        if (owner != null) owner.onMobAdded(entity);
+    }
+
+    /**
+     * Solta a referência direta de um mob rastreado que saiu do mundo
+     * Não decide o motivo: mortes vêm do EntityDeathEvent e as demais causas do EntityRemoveEvent
+     * (onEntityUnloaded / onEntityDiscarded)
+     */
+    public void onEntityRemoved(Entity entity) {
+        MobSpawnSystem owner = mobOwners.get(entity.getUniqueId());
+        if (owner != null) owner.onMobRemoved(entity);
+    }
+
+    /**
+     * Repassa entidades carregadas de um chunk para as áreas marcadas nelas
+     * Mobs de antes de um reinício voltam a ser contados e verificados pela sua área
+     */
+    public void onEntitiesLoad(List<Entity> entities) {
+        for (Entity entity : entities) {
+            if (!(entity instanceof LivingEntity)) continue;
+
+            // Mob suspenso voltando: só reativa
+            MobSpawnSystem owner = mobOwners.get(entity.getUniqueId());
+            if (owner != null) {
+                owner.adoptMob(entity);
+                continue;
+            }
+
+            String areaName = mobManager.getSpawnedMobArea(entity);
+            if (areaName == null) continue;
+
+            MobSpawnSystem system = spawnSystems.get(areaName);
+            if (system != null) system.adoptMob(entity);
+        }
+    }
+
+    /**
+     * Atribui a morte de um mob à sua área em O(1) pelo índice reverso
+     * A área deixa de contá-lo na hora (e pode pedir um novo spawn), sem esperar a verificação
+     */
+    public void onMobDeath(Entity entity) {
+        MobSpawnSystem owner = mobOwners.remove(entity.getUniqueId());
+        if (owner != null) owner.onMobDied(entity);
+    }
+
+    /**
+     * Suspende os mobs rastreados de um chunk que descarregou
+     * Eles continuam contando para o maxMobs da área até o chunk carregar de novo
+     */
+    public void onEntitiesUnload(List<Entity> entities) {
+        for (Entity entity : entities) {
+            onEntityUnloaded(entity);
+        }
+    }
+
+    /**
+     * Suspende um mob rastreado removido por descarregamento de chunk
+     */
+    public void onEntityUnloaded(Entity entity) {
+        MobSpawnSystem owner = mobOwners.get(entity.getUniqueId());
+        if (owner != null) owner.onMobUnloaded(entity);
+    }
+
+    /**
+     * Um mob rastreado saiu do mundo de vez sem morrer (despawn, outro plugin, transformação...)
+     * A área deixa de contá-lo na hora e repõe a vaga, sem esperar a verificação ou o coletor
+     */
+    public void onEntityDiscarded(Entity entity) {
+        MobSpawnSystem owner = mobOwners.remove(entity.getUniqueId());
+        if (owner != null) owner.onMobDiscarded(entity);
+    }
+
+    void registerOwner(UUID id, MobSpawnSystem system) {
+        mobOwners.put(id, system);
+    }
+
+    void unregisterOwner(UUID id) {
+        mobOwners.remove(id);
+    }
+
     // ==========================================
     // FUNÇÕES DE GERENCIAMENTO GLOBAL
     // ==========================================
@@ -285,23 +526,106 @@ public class MobSpawnManager {
     public void shutdownAll() {
         spawnSystems.values().forEach(MobSpawnSystem::shutdown);
         spawnSystems.clear();
+        mobOwners.clear();
         plugin.getLogger().info("Todos os sistemas de spawn foram desligados!");
     }
 
+    /**
+     * Desliga todas as áreas e o agendador compartilhado
+     */
+    public void shutdown() {
+        shutdownAll();
+        scheduler.clear();
+        spawnBudget.clear();
+        searchPool.shutdown();
+        if (tickTaskId != -1) {
+            Bukkit.getScheduler().cancelTask(tickTaskId);
+            tickTaskId = -1;
+        }
+    }
+
     /**
      * Recarrega todas as áreas da configuração
      */
     public void reloadAreas() {
         shutdownAll();
         spawnAreas.clear();
+        areaIndex.clear();
         loadConfig();
         plugin.getLogger().info("Áreas de spawn recarregadas!");
     }
 
+    // ==========================================
+    // TICK
+    // ==========================================
+
+    /**
+     * Executado a cada tick pela única tarefa do plugin
+     */
+    private void tick() {
+        throttle.tick();
+        if (scheduler.getCurrentTick() % proximityRefreshInterval == 0) {
+            updateDormancy();
+        }
+        scheduler.tick();
+        reaper.tick(spawnSystems.values());
+        spawnBudget.drain();
+    }
+
+    /**
+     * Reconstrói o índice de jogadores e atualiza a dormência das áreas
+     */
+    private void updateDormancy() {
+        proximityIndex.rebuild();
+        for (MobSpawnSystem system : spawnSystems.values()) {
+            system.updateDormancy(proximityIndex);
+        }
+    }
+
     // ==========================================
     // FUNÇÕES DE CONSULTA
     // ==========================================
 
+    /**
+     * Lista os trabalhos agendados para os próximos ticks
+     *
+     * @param ticks Quantos ticks à frente inspecionar
+     */
+    public List<String> getScheduledWork(int ticks) {
+        List<String> list = new ArrayList<>();
+        long now = scheduler.getCurrentTick();
+
+        for (int i = 1; i <= ticks; i++) {
+            List<SpawnScheduler.ScheduledJob> work = scheduler.getWorkForTick(now + i);
+            if (work.isEmpty()) continue;
+
+            String names = work.stream()
+                    .map(SpawnScheduler.ScheduledJob::getName)
+                    .collect(Collectors.joining(", "));
+            list.add(String.format("§6+%dt §f(%d): %s", i, work.size(), names));
+        }
+
+        return list;
+    }
+
+    /**
+     * Relatório de conciliação por área: mobs vivos, suspensos (chunks descarregados) e perdidos
+     */
+    public List<String> getReconciliationReport() {
+        List<String> list = new ArrayList<>();
+
+        for (String name : spawnAreas.keySet()) {
+            MobSpawnSystem system = spawnSystems.get(name);
+            if (system == null) continue;
+
+            list.add(String.format("§f%s: §a%d vivos §7%d suspensos §c%d perdidos §7(%d/%d)",
+                    name, system.getLiveMobCount(), system.getSuspendedMobCount(), system.getLostMobs(),
+                    system.getMobCount(), system.getArea().getMaxMobs()));
+        }
+
+        return list;
+    }
+
     /**
      * Obtém informações detalhadas de uma área
      */
@@ -315,10 +639,43 @@ public class MobSpawnManager {
 
         StringBuilder info = new StringBuilder();
         info.append("§e=== Área: ").append(name).append(" ===\n");
-        info.append("§6Status: ").append(system.isActive() ? "§aAtiva" : "§cInativa").append("\n");
-        info.append("§6Mobs: §f").append(system.getMobCount()).append("/").append(system.getArea().getMaxMobs()).append("\n");
-        info.append("§6Intervalo: §f").append(system.getArea().getSpawnInterval()).append(" ticks\n");
-        info.append("§6Mobs: §f").append(area.getMobList());
+        info.append("§6Status: ").append(system.isActive() ? "§aAtiva" : "§cInativa")
+                .append(system.isPaused() ? " §7(pausada, sem chunks carregados)" : "")
+                .append(system.isDormant() ? " §7(dormente, sem jogadores por perto)" : "").append("\n");
+        if (area.getActivationRadius() > 0) {
+            info.append("§6Raio de ativação: §f").append(area.getActivationRadius())
+                    .append(" blocos §7(").append(area.getDormantAction()).append(")\n");
+        }
+        if (area.getChunkCoverage() != null) {
+            info.append("§6Chunks carregados: §f").append(area.getChunkCoverage().getLoadedCount())
+                    .append("/").append(area.getChunkCoverage().getTotalChunks()).append("\n");
+        }
+        info.append("§6Mobs: §f").append(system.getMobCount()).append("/").append(system.getArea().getMaxMobs())
+                .append(" §7(").append(system.getLiveMobCount()).append(" vivos, ")
+                .append(system.getSuspendedMobCount()).append(" suspensos, ")
+                .append(system.getLostMobs()).append(" perdidos)\n");
+        if (throttle.isEnabled()) {
+            info.append("§6Throttle: §f").append(String.format("%.0f%%", system.getThrottleFactor() * 100))
+                    .append(" §7(max efetivo ").append(system.getEffectiveMaxMobs())
+                    .append(", prioridade ").append(area.getPriority()).append(")\n");
+        }
+        if (area.getSpawnMode() == SpawnMode.EVENT) {
+            info.append("§6Spawn: §fpor evento §7(atraso ").append(area.getRespawnDelay())
+                    .append("t, espaçamento ").append(area.getRespawnCooldown()).append("t)\n");
+        } else {
+            info.append("§6Intervalo: §f").append(system.getArea().getSpawnInterval()).append(" ticks\n");
+        }
+        info.append("§6Verificação: §f").append(system.getArea().getCheckInterval()).append(" ticks\n");
+        if (area.isRefillOnDeath()) {
+            info.append("§6Reposição: §fna morte\n");
+        }
+        info.append("§6Limite: §f").append(area.getBoundaryPolicy())
+                .append(" §7(").append(system.getRecoveredMobs()).append(" devolvidos/spawns evitados, ")
+                .append(system.getRemovedEscapedMobs()).append(" removidos)\n");
+        if (system.getAdoptedMobs() > 0) {
+            info.append("§6Reassumidos: §f").append(system.getAdoptedMobs()).append(" §7(mobs de antes do reinício)\n");
+        }
+        info.append("§6Mobs: §f").append(String.join(", ", area.getMobEntries()));
 
         return info.toString();
     }
@@ -389,8 +746,8 @@ public class MobSpawnManager {
                 Location pos1 = loadLocation(areaConfig.getConfigurationSection("pos1"));
                 Location pos2 = loadLocation(areaConfig.getConfigurationSection("pos2"));
 
-                // Carrega os mobs
-                String[] mobsList = areaConfig.getStringList("mobs").toArray(new String[0]);
+                // Carrega os mobs ("id" ou "id:peso")
+                List<String> mobEntries = areaConfig.getStringList("mobs");
 
                 // Carrega configurações
                 int maxMobs = areaConfig.getInt("max-mobs", 20);
@@ -398,11 +755,27 @@ public class MobSpawnManager {
                 boolean autoStart = areaConfig.getBoolean("auto-start", false);
                 int checkInterval = areaConfig.getInt("check-interval", 20);
 
-                SpawnArea area = new SpawnArea(areaName, pos1, pos2, mobsList, maxMobs, spawnInterval, checkInterval);
+                SpawnArea area = new SpawnArea(areaName, pos1, pos2, new String[0], maxMobs, spawnInterval, checkInterval);
+                area.setMobEntries(mobEntries);
+                area.setPriority(areaConfig.getInt("priority", 0));
+                area.setActivationRadius(areaConfig.getInt("activation-radius", 0));
+                area.setDormantAction(DormantAction.fromString(areaConfig.getString("dormant-action", "NONE")));
+                area.setBoundaryPolicy(BoundaryPolicy.fromString(areaConfig.getString("boundary-policy", "REMOVE")));
+                area.setRefillOnDeath(areaConfig.getBoolean("refill-on-death", false));
+                area.setSpawnMode(SpawnMode.fromString(areaConfig.getString("spawn-mode", "INTERVAL")));
+                area.setRespawnDelay(areaConfig.getInt("respawn-delay", 0));
+                area.setRespawnCooldown(areaConfig.getInt("respawn-cooldown", 20));
+
+                // Forma opcional (cuboid, cilindro, polígono, composta); sem ela vale o Cuboid de pos1/pos2
+                ConfigurationSection shapeSection = areaConfig.getConfigurationSection("shape");
+                if (shapeSection != null) {
+                    area.setRegion(loadRegion(shapeSection, area.getWorldName()));
+                }
                 spawnAreas.put(areaName, area);
+                areaIndex.add(area);
 
                 // Cria e configura o sistema
-                MobSpawnSystem system = new MobSpawnSystem(plugin, area, mobManager);
+                MobSpawnSystem system = new MobSpawnSystem(plugin, area, mobManager, this);
                 spawnSystems.put(areaName, system);
 
                 // Auto-inicia se configurado
@@ -434,13 +807,23 @@ public class MobSpawnManager {
             saveLocation(config, path + ".pos2", area.getPos2());
 
             // Salva mobs
-            String[] mobsList = area.getMobList();
-            config.set(path + ".mobs", mobsList);
+            config.set(path + ".mobs", area.getMobEntries());
 
             // Salva configurações
             config.set(path + ".max-mobs", area.getMaxMobs());
             config.set(path + ".spawn-interval", area.getSpawnInterval());
             config.set(path + ".check-interval", area.getCheckInterval());
+            config.set(path + ".priority", area.getPriority());
+            config.set(path + ".activation-radius", area.getActivationRadius());
+            config.set(path + ".dormant-action", area.getDormantAction().name());
+            config.set(path + ".boundary-policy", area.getBoundaryPolicy().name());
+            config.set(path + ".refill-on-death", area.isRefillOnDeath());
+            config.set(path + ".spawn-mode", area.getSpawnMode().name());
+            config.set(path + ".respawn-delay", area.getRespawnDelay());
+            config.set(path + ".respawn-cooldown", area.getRespawnCooldown());
+            if (area.hasCustomShape()) {
+                saveRegion(config.createSection(path + ".shape"), area.getRegion());
+            }
             config.set(path + ".auto-start", system != null && system.isActive());
         }
 
@@ -463,6 +846,96 @@ public class MobSpawnManager {
         return new Location(plugin.getServer().getWorld(worldName), x, y, z);
     }
 
+    /**
+     * Carrega a forma de uma área
+     * Tipos: cuboid (x1..z2), cylinder (center-x, center-z, radius), polygon (points "x,z"),
+     * composite (include/exclude com outras formas); todos com min-y/max-y exceto cuboid e composite
+     */
+    private Region loadRegion(ConfigurationSection section, String worldName) {
+        String type = section.getString("type", "cuboid").toLowerCase(Locale.ROOT);
+        switch (type) {
+            case "cuboid":
+                return new Cuboid(plugin.getServer().getWorld(worldName),
+                        section.getInt("x1"), section.getInt("y1"), section.getInt("z1"),
+                        section.getInt("x2"), section.getInt("y2"), section.getInt("z2"));
+            case "cylinder":
+                return new CylinderRegion(worldName,
+                        section.getDouble("center-x"), section.getDouble("center-z"), section.getDouble("radius"),
+                        section.getInt("min-y"), section.getInt("max-y"));
+            case "polygon": {
+                List<String> points = section.getStringList("points");
+                int[] xs = new int[points.size()];
+                int[] zs = new int[points.size()];
+                for (int i = 0; i < points.size(); i++) {
+                    String[] parts = points.get(i).split(",");
+                    if (parts.length != 2) throw new IllegalArgumentException("ponto inválido '" + points.get(i) + "' (use \"x,z\")");
+                    xs[i] = Integer.parseInt(parts[0].trim());
+                    zs[i] = Integer.parseInt(parts[1].trim());
+                }
+                return new PolygonRegion(worldName, xs, zs, section.getInt("min-y"), section.getInt("max-y"));
+            }
+            case "composite":
+                return new CompositeRegion(loadRegions(section.getConfigurationSection("include"), worldName),
+                        loadRegions(section.getConfigurationSection("exclude"), worldName));
+            default:
+                throw new IllegalArgumentException("tipo de forma desconhecido: " + type);
+        }
+    }
+
+    private List<Region> loadRegions(ConfigurationSection section, String worldName) {
+        List<Region> regions = new ArrayList<>();
+        if (section == null) return regions;
+
+        for (String key : section.getKeys(false)) {
+            regions.add(loadRegion(section.getConfigurationSection(key), worldName));
+        }
+        return regions;
+    }
+
+    /**
+     * Salva a forma de uma área (formato lido por loadRegion)
+     */
+    private void saveRegion(ConfigurationSection section, Region region) {
+        if (region instanceof CylinderRegion) {
+            CylinderRegion cylinder = (CylinderRegion) region;
+            section.set("type", "cylinder");
+            section.set("center-x", cylinder.getCenterX());
+            section.set("center-z", cylinder.getCenterZ());
+            section.set("radius", cylinder.getRadius());
+            section.set("min-y", cylinder.getLowerY());
+            section.set("max-y", cylinder.getUpperY());
+        } else if (region instanceof PolygonRegion) {
+            PolygonRegion polygon = (PolygonRegion) region;
+            List<String> points = new ArrayList<>(polygon.getPointCount());
+            for (int i = 0; i < polygon.getPointCount(); i++) {
+                points.add(polygon.getPointX(i) + "," + polygon.getPointZ(i));
+            }
+            section.set("type", "polygon");
+            section.set("points", points);
+            section.set("min-y", polygon.getLowerY());
+            section.set("max-y", polygon.getUpperY());
+        } else if (region instanceof CompositeRegion) {
+            CompositeRegion composite = (CompositeRegion) region;
+            section.set("type", "composite");
+            saveRegions(section.createSection("include"), composite.getIncluded());
+            saveRegions(section.createSection("exclude"), composite.getExcluded());
+        } else {
+            section.set("type", "cuboid");
+            section.set("x1", region.getLowerX());
+            section.set("y1", region.getLowerY());
+            section.set("z1", region.getLowerZ());
+            section.set("x2", region.getUpperX());
+            section.set("y2", region.getUpperY());
+            section.set("z2", region.getUpperZ());
+        }
+    }
+
+    private void saveRegions(ConfigurationSection section, List<Region> regions) {
+        for (int i = 0; i < regions.size(); i++) {
+            saveRegion(section.createSection("part-" + i), regions.get(i));
+        }
+    }
+
     /**
      * Salva uma localização na configuração
      */
@@ -2,49 +2,95 @@ package carpaccio.minigameCore.core;
 
 import carpaccio.minigameCore.MinigameCore;
 
+import carpaccio.minigameCore.core.mobs.CustomMob;
 import carpaccio.minigameCore.core.mobs.MobManager;
-import org.bukkit.Bukkit;
+import carpaccio.minigameCore.core.mobs.WeightedMobTable;
+import carpaccio.minigameCore.utils.UuidSet;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.LivingEntity;
+import org.bukkit.util.Vector;
 
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.Random;
 
 /**
- * Sistema de spawn de mobs em área delimitada (usando Cuboid)
+ * Sistema de spawn de mobs em área delimitada (Cuboid ou outra forma de Region)
  * Pode ser instanciado e gerenciado de forma independente
  */
 public class MobSpawnSystem {
 
     private final MinigameCore plugin;
 
-    private final Set<UUID> spawnedMobs;
+    private final TrackedMobs spawnedMobs;
     private SpawnArea area;
     private final MobManager mobManager;
+    private final MobSpawnManager manager;
+    private SpawnLocationFinder finder;
 
-    private int spawnTaskId;
-    private int checkTaskId;
+    // Mobs da área já resolvidos para CustomMob, com sorteio ponderado em O(1)
+    private WeightedMobTable mobTable;
+    private final Random random;
+
+    private SpawnScheduler.ScheduledJob spawnJob;
+    private SpawnScheduler.ScheduledJob checkJob;
     private boolean isActive;
 
+    // Modo por evento: reposição agendada (uma vez) e tick da última reposição
+    private static final int REFILL_RETRY_TICKS = 20;
+    private SpawnScheduler.ScheduledJob refillJob;
+    private long lastRefillTick = Long.MIN_VALUE / 2;
+
+    // Posição da verificação de limites em rodízio (uma fatia dos mobs por tick)
+    private int checkCursor;
+
+    // Posição do coletor de entradas obsoletas (MobReaper)
+    private int reapCursor;
+
+    // Demanda aguardando o orçamento global de spawn
+    private int pendingSpawns;
+    private boolean queued;
+
+    // Acumula o fator do throttle adaptativo; um spawn é pedido a cada 1.0 acumulado
+    private double spawnCredit;
+
+    // Mobs que saíram da área: devolvidos (spawns evitados) ou removidos
+    private static final double PUSH_STRENGTH = 0.6;
+    private static final double PUSH_MAX_DISTANCE = 8.0;
+    private long recoveredMobs;
+    private long removedEscapedMobs;
+
+    // Mobs marcados com esta área que foram reassumidos ao carregar (ex.: após reinício)
+    private long adoptedMobs;
+
+    // Mobs que sumiram sem morrer e sem o chunk descarregar (removidos por outro plugin, /kill etc.)
+    private long lostMobs;
+
+    // Dormência: nenhum jogador dentro do raio de ativação da área
+    private boolean dormant;
+    private boolean frozen;
+
     // ==========================================
     // CONSTRUTOR
     // ==========================================
 
-    public MobSpawnSystem(MinigameCore plugin, SpawnArea area, MobManager mobManager) {
+    public MobSpawnSystem(MinigameCore plugin, SpawnArea area, MobManager mobManager, MobSpawnManager manager) {
         this.plugin = plugin;
 
-        this.spawnedMobs = new HashSet<>();
+        this.spawnedMobs = new TrackedMobs();
         this.area = area;
         this.mobManager = mobManager;
+        this.manager = manager;
+        this.finder = new SpawnLocationFinder(manager.getSearchPool(), area);
+        this.random = new Random();
+        resolveMobs();
 
-        this.spawnTaskId = -1;
-        this.checkTaskId = -1;
+        this.spawnJob = null;
+        this.checkJob = null;
         this.isActive = false;
     }
 
@@ -56,11 +102,56 @@ public class MobSpawnSystem {
     public SpawnArea getArea() { return area; }
 
     /** Define a Spawn Area diretamente */
-    public void setArea(SpawnArea area) { this.area = area; }
+    public void setArea(SpawnArea area) {
+        this.area = area;
+        this.finder.clear();
+        this.finder = new SpawnLocationFinder(manager.getSearchPool(), area);
+        resolveMobs();
+    }
 
     public boolean isActive() { return isActive; }
     public int getMobCount() { return spawnedMobs.size(); }
-    public Set<UUID> getSpawnedMobs() { return new HashSet<>(spawnedMobs); }
+    /** Visão somente leitura (sem cópia) dos UUIDs dos mobs rastreados */
+    public UuidSet.View getSpawnedMobs() { return spawnedMobs.getIds(); }
+    public int getPendingSpawns() { return pendingSpawns; }
+
+    /** Mobs que saíram da área e foram devolvidos em vez de recriados (spawns evitados) */
+    public long getRecoveredMobs() { return recoveredMobs; }
+
+    /** Mobs que saíram da área e foram removidos */
+    public long getRemovedEscapedMobs() { return removedEscapedMobs; }
+
+    /** Mobs rastreados que estão em chunks carregados */
+    public int getLiveMobCount() { return spawnedMobs.size() - spawnedMobs.getSuspendedCount(); }
+
+    /** Mobs rastreados em chunks descarregados (continuam contando para o maxMobs) */
+    public int getSuspendedMobCount() { return spawnedMobs.getSuspendedCount(); }
+
+    /** Mobs que sumiram sem morrer nem descarregar */
+    public long getLostMobs() { return lostMobs; }
+
+    /** Mobs de antes de um reinício reassumidos pela área */
+    public long getAdoptedMobs() { return adoptedMobs; }
+
+    /** Se a área está dormente por não haver jogadores dentro do raio de ativação */
+    public boolean isDormant() { return dormant; }
+
+    /** Se a área está pausada por não ter nenhum chunk carregado (modo ciente de chunks) */
+    public boolean isPaused() {
+        return manager.isChunkAware() && area.getChunkCoverage() != null && area.getChunkCoverage().isEmpty();
+    }
+
+    /** Fator atual do throttle adaptativo para esta área (1 = sem redução) */
+    public double getThrottleFactor() {
+        return manager.getThrottle().getFactor(area.getPriority());
+    }
+
+    /** maxMobs já reduzido pelo throttle adaptativo */
+    public int getEffectiveMaxMobs() {
+        double factor = getThrottleFactor();
+        if (factor >= 1.0) return area.getMaxMobs();
+        return Math.max(1, (int) Math.ceil(area.getMaxMobs() * factor));
+    }
 
     // ==========================================
     // PRINCIPAIS
@@ -77,31 +168,80 @@ public class MobSpawnSystem {
         }
         if (isActive) stop();
 
-        spawnTaskId = Bukkit.getScheduler().scheduleSyncRepeatingTask(plugin, () -> {
-            if (spawnedMobs.size() < area.getMaxMobs()) {
-                spawnRandomMob();
-            }
-        }, 0L, area.getSpawnInterval());
-
-        checkTaskId = Bukkit.getScheduler().scheduleSyncRepeatingTask(plugin,
-                this::checkMobsLocation, 0L, area.getCheckInterval());
+        // Calcula a superfície de spawn uma vez; depois só colunas alteradas são consultadas
+        World world = area.getGeometry().getWorld();
+        if (world == null) {
+            plugin.getLogger().warning("Mundo '" + area.getWorldName() + "' da área " + area.getRegionName() + " não está carregado");
+            return false;
+        }
+        area.getChunkCoverage().scan(world);
+        area.getSurfaceCache().build(world);
+        adoptLoadedMobs(world);
+
+        SpawnScheduler scheduler = manager.getScheduler();
+        if (area.getSpawnMode() == SpawnMode.INTERVAL) {
+            spawnJob = scheduler.schedule(area.getRegionName() + ":spawn",
+                    this::requestSpawn, 0, area.getSpawnInterval());
+        }
 
         isActive = true;
+        updateCheckJob();
+        scheduleRefill(0);
         plugin.getLogger().info("Spawning at: "+ area.getRegionName());
         return true;
     }
 
     /** Para o sistema de spawn */
     public void stop() {
-        if (spawnTaskId != -1) {
-            Bukkit.getScheduler().cancelTask(spawnTaskId);
-            spawnTaskId = -1;
+        SpawnScheduler scheduler = manager.getScheduler();
+        if (spawnJob != null) {
+            scheduler.cancel(spawnJob);
+            spawnJob = null;
+        }
+        if (checkJob != null) {
+            scheduler.cancel(checkJob);
+            checkJob = null;
         }
-        if (checkTaskId != -1) {
-            Bukkit.getScheduler().cancelTask(checkTaskId);
-            checkTaskId = -1;
+        if (refillJob != null) {
+            scheduler.cancel(refillJob);
+            refillJob = null;
         }
         isActive = false;
+        if (dormant) wake();
+        pendingSpawns = 0;
+        spawnCredit = 0;
+        finder.clear();
+    }
+
+    /** Aplica os intervalos atuais da área sem reiniciar o sistema */
+    public void reschedule() {
+        SpawnScheduler scheduler = manager.getScheduler();
+        if (spawnJob != null) scheduler.reschedule(spawnJob, area.getSpawnInterval());
+        scheduleRefill(0);
+    }
+
+    /**
+     * Resolve os ids da lista de mobs da área para CustomMobs e monta a tabela de sorteio
+     * Deve ser chamado sempre que a lista de mobs da área mudar
+     */
+    public void resolveMobs() {
+        String[] ids = area.getMobList();
+        double[] weights = area.getMobWeights();
+
+        List<CustomMob> mobs = new ArrayList<>(ids.length);
+        List<Double> mobWeights = new ArrayList<>(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            CustomMob mob = mobManager.getCustomMob(ids[i]);
+            if (mob == null) {
+                plugin.getLogger().warning("Mob customizado '" + ids[i] + "' não encontrado na área " + area.getRegionName());
+                continue;
+            }
+            mobs.add(mob);
+            mobWeights.add(weights[i]);
+        }
+
+        mobTable = new WeightedMobTable(mobs.toArray(new CustomMob[0]),
+                mobWeights.stream().mapToDouble(Double::doubleValue).toArray());
     }
 
     /** Reinicia (útil ao mudar configs) */
@@ -115,114 +255,507 @@ public class MobSpawnSystem {
     /** Remove todos os mobs spawnados pelo sistema */
     public int clearAllMobs() {
         int count = 0;
-        for (UUID uuid : new HashSet<>(spawnedMobs)) {
-            Entity entity = Bukkit.getEntity(uuid);
+        for (int i = spawnedMobs.size() - 1; i >= 0; i--) {
+            Entity entity = spawnedMobs.getEntity(i);
+            manager.unregisterOwner(spawnedMobs.getId(i));
             if (entity != null) {
-                entity.remove();
                 mobManager.untrackMob(entity);
+                entity.remove();
                 count++;
             }
         }
         spawnedMobs.clear();
+        scheduleRefill(0);
         return count;
     }
 
+    /**
+     * Reassume um mob marcado com esta área (ex.: carregado de um chunk salvo antes de um reinício)
+     * Ele volta a contar para o maxMobs e a ser verificado
+     */
+    void adoptMob(Entity entity) {
+        applyFrozenState(entity);
+        if (spawnedMobs.contains(entity.getUniqueId())) {
+            spawnedMobs.attach(entity);
+            return;
+        }
+        spawnedMobs.add(entity);
+        manager.registerOwner(entity.getUniqueId(), this);
+        adoptedMobs++;
+        updateCheckJob();
+    }
+
+    /** Reassume os mobs desta área que já estão nos chunks carregados (ex.: após /reload) */
+    private void adoptLoadedMobs(World world) {
+        ChunkCoverage coverage = area.getChunkCoverage();
+        for (int i = 0; i < coverage.getLoadedCount(); i++) {
+            int chunk = coverage.getLoadedChunk(i);
+            for (Entity entity : world.getChunkAt(coverage.getChunkX(chunk), coverage.getChunkZ(chunk)).getEntities()) {
+                if (entity instanceof LivingEntity && area.getRegionName().equals(mobManager.getSpawnedMobArea(entity))) {
+                    adoptMob(entity);
+                }
+            }
+        }
+    }
+
+    /** Renova a referência de um mob deste sistema que (re)entrou no mundo */
+    void onMobAdded(Entity entity) {
+        if (spawnedMobs.attach(entity)) applyFrozenState(entity);
+    }
+
+    /** Solta a referência de um mob deste sistema que saiu do mundo (o motivo chega pelo EntityRemoveEvent) */
+    void onMobRemoved(Entity entity) {
+        spawnedMobs.detach(entity.getUniqueId());
+    }
+
+    /**
+     * Um mob deste sistema morreu: deixa de contar na hora e, se configurado, pede a reposição
+     * O gerenciador já tirou o mob do índice reverso
+     */
+    void onMobDied(Entity entity) {
+        if (!spawnedMobs.remove(entity.getUniqueId())) return;
+        if (area.getSpawnMode() == SpawnMode.EVENT) {
+            scheduleRefill(area.getRespawnDelay());
+        } else if (area.isRefillOnDeath()) {
+            requestRefill();
+        }
+    }
+
+    /**
+     * Um mob deste sistema foi removido do mundo sem morrer: conta como perdido e repõe a vaga na hora
+     * O gerenciador já tirou o mob do índice reverso
+     */
+    void onMobDiscarded(Entity entity) {
+        if (!spawnedMobs.remove(entity.getUniqueId())) return;
+        mobManager.untrackMob(entity);
+        lostMobs++;
+        if (area.getSpawnMode() == SpawnMode.EVENT) {
+            scheduleRefill(0);
+        } else {
+            requestRefill();
+        }
+    }
+
+    /** Suspende um mob deste sistema cujo chunk descarregou */
+    void onMobUnloaded(Entity entity) {
+        spawnedMobs.suspend(entity.getUniqueId());
+    }
+
+    /** Um bloco mudou na área: os pontos já encontrados pela busca assíncrona podem ter ficado inválidos */
+    void onBlockChange(int x, int y, int z) {
+        RegionGeometry geometry = area.getGeometry();
+        if (geometry == null || !geometry.containsColumn(x, z)) return;
+        // Ponto válido usa de Y - 1 (chão) a Y + 1 (cabeça)
+        if (y < geometry.getMinY() - 1 || y > geometry.getMaxY() + 1) return;
+        finder.clear();
+    }
+
     /** Limpa recursos ao desativar */
     public void shutdown() {
         stop();
         clearAllMobs();
     }
 
+    // ==========================================
+    // DORMÊNCIA
+    // ==========================================
+
+    /**
+     * Atualiza a dormência da área de acordo com o índice de jogadores
+     * Chamado pelo gerenciador a cada reconstrução do índice
+     */
+    public void updateDormancy(PlayerProximityIndex index) {
+        RegionGeometry geometry = area.getGeometry();
+        if (!isActive || geometry == null) return;
+
+        int radius = area.getActivationRadius();
+        boolean near = radius <= 0 || index.hasPlayerNear(geometry.getWorldName(),
+                geometry.getMinX(), geometry.getMinZ(), geometry.getMaxX(), geometry.getMaxZ(), radius);
+
+        if (near && dormant) {
+            wake();
+        } else if (!near && !dormant) {
+            sleep();
+        }
+    }
+
+    /** Entra em dormência: sem spawns, sem verificações e aplica a ação configurada aos mobs */
+    private void sleep() {
+        dormant = true;
+        pendingSpawns = 0;
+        updateCheckJob();
+
+        switch (area.getDormantAction()) {
+            case DESPAWN:
+                clearAllMobs();
+                break;
+            case FREEZE:
+                setMobsAI(false);
+                frozen = true;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /** Sai da dormência e devolve a IA aos mobs congelados */
+    private void wake() {
+        dormant = false;
+        updateCheckJob();
+        scheduleRefill(0);
+        if (frozen) {
+            setMobsAI(true);
+            frozen = false;
+        }
+    }
+
+    /**
+     * Congela ou descongela os mobs carregados
+     * Os suspensos (sem referência) são acertados por applyFrozenState quando o chunk voltar
+     */
+    private void setMobsAI(boolean enabled) {
+        for (int i = 0; i < spawnedMobs.size(); i++) {
+            setFrozen(spawnedMobs.getEntity(i), !enabled);
+        }
+    }
+
+    /**
+     * Acerta a IA de um mob que (re)entrou no mundo de acordo com o estado atual da área
+     * A marca no PDC indica que o NoAI salvo com a entidade veio da dormência, e não de outro lugar
+     */
+    private void applyFrozenState(Entity entity) {
+        if (frozen) {
+            setFrozen(entity, true);
+        } else if (mobManager.isFrozen(entity)) {
+            setFrozen(entity, false);
+        }
+    }
+
+    private void setFrozen(Entity entity, boolean frozen) {
+        if (!(entity instanceof LivingEntity)) return;
+        ((LivingEntity) entity).setAI(!frozen);
+        mobManager.setFrozen(entity, frozen);
+    }
+
+    // ==========================================
+    // ORÇAMENTO DE SPAWN
+    // ==========================================
+
+    /** Pede um spawn ao orçamento global; o spawn acontece quando houver folga no tick */
+    private void requestSpawn() {
+        if (dormant || isPaused()) return;
+
+        // Sob carga o fator fica abaixo de 1 e os pedidos ficam mais espaçados
+        spawnCredit = Math.min(spawnCredit + getThrottleFactor(), 1.0);
+        if (spawnCredit < 1.0) return;
+
+        if (spawnedMobs.size() + pendingSpawns >= getEffectiveMaxMobs()) return;
+        spawnCredit -= 1.0;
+
+        pendingSpawns++;
+        manager.getSpawnBudget().enqueue(this);
+    }
+
+    /** Pede ao orçamento global a reposição de um mob, sem esperar o intervalo de spawn */
+    private void requestRefill() {
+        if (!isActive || dormant || isPaused()) return;
+        if (spawnedMobs.size() + pendingSpawns >= getEffectiveMaxMobs()) return;
+
+        pendingSpawns++;
+        manager.getSpawnBudget().enqueue(this);
+    }
+
+    /**
+     * Executa um spawn pendente, chamado pelo orçamento global
+     * @return true se um mob foi spawnado
+     */
+    boolean runQueuedSpawn() {
+        if (pendingSpawns <= 0) return false;
+        pendingSpawns--;
+
+        if (!isActive || spawnedMobs.size() >= getEffectiveMaxMobs()) return false;
+        if (spawnRandomMob()) return true;
+
+        // No modo por evento ninguém mais tentaria: agenda uma nova tentativa
+        scheduleRefill(0);
+        return false;
+    }
+
+    // ==========================================
+    // SPAWN POR EVENTO
+    // ==========================================
+
+    /**
+     * Agenda uma reposição (modo por evento), respeitando o atraso mínimo e o espaçamento entre reposições
+     * Se já houver uma reposição agendada, ela atende o pedido
+     */
+    private void scheduleRefill(int minDelay) {
+        if (area.getSpawnMode() != SpawnMode.EVENT || !isActive || refillJob != null) return;
+
+        SpawnScheduler scheduler = manager.getScheduler();
+        long now = scheduler.getCurrentTick();
+        long at = Math.max(now + minDelay, lastRefillTick + area.getRespawnCooldown());
+        refillJob = scheduler.scheduleOnce(area.getRegionName() + ":refill", this::runRefill, (int) (at - now));
+    }
+
+    /** Pede um spawn ao orçamento se faltar mob e agenda a próxima reposição enquanto faltar */
+    private void runRefill() {
+        refillJob = null;
+        if (!isActive || dormant) return; // wake() agenda de novo
+
+        if (isPaused()) {
+            scheduleRefill(REFILL_RETRY_TICKS);
+            return;
+        }
+
+        int missing = getEffectiveMaxMobs() - spawnedMobs.size() - pendingSpawns;
+        if (missing <= 0) {
+            // Cheia: não agenda nada, a menos que o throttle esteja segurando o máximo
+            if (getEffectiveMaxMobs() < area.getMaxMobs()) scheduleRefill(REFILL_RETRY_TICKS);
+            return;
+        }
+
+        pendingSpawns++;
+        manager.getSpawnBudget().enqueue(this);
+        lastRefillTick = manager.getScheduler().getCurrentTick();
+
+        if (missing > 1) scheduleRefill(0);
+    }
+
+    boolean hasPendingSpawns() { return pendingSpawns > 0; }
+    void clearPendingSpawns() { pendingSpawns = 0; }
+    boolean isQueued() { return queued; }
+    void setQueued(boolean queued) { this.queued = queued; }
+
     // ==========================================
     // PRIVADAS
     // ==========================================
 
-    /** Spawna um mob aleatório dentro do Cuboid */
-    private void spawnRandomMob() {
-        if (area.getRegion() == null || area.getMobList() == null || area.getMobList().length == 0) return;
+    /**
+     * Spawna um mob aleatório dentro da região
+     * @return true se o mob foi spawnado
+     */
+    private boolean spawnRandomMob() {
+        if (area.getRegion() == null || mobTable.isEmpty()) return false;
 
-        Location spawnLoc = getRandomLocationInsideRegion();
-        if (spawnLoc == null) return;
+        // Prefere pontos já validados pela busca assíncrona; sem eles, usa o cache de superfície
+        Location spawnLoc = pollSearchedLocation();
+        if (spawnLoc == null) spawnLoc = getRandomLocationInsideRegion();
+        if (spawnLoc == null) return false;
 
-        String mobId = area.getMobList()[new Random().nextInt(area.getMobList().length)];
+        // Nunca força o carregamento síncrono de um chunk para spawnar
+        if (manager.isChunkAware() && !spawnLoc.getWorld().isChunkLoaded(spawnLoc.getBlockX() >> 4, spawnLoc.getBlockZ() >> 4)) {
+            return false;
+        }
+
+        CustomMob mob = mobTable.sample(random);
         try {
-            Entity entity = mobManager.getCustomMob(mobId).spawn(spawnLoc);
+            // Marca o mob (id e área) antes de ele entrar no mundo
+            Entity entity = mob.spawn(spawnLoc, spawned -> mobManager.trackSpawnedMob(spawned, mob.getId(), area.getRegionName()));
             if (entity instanceof LivingEntity) {
-                spawnedMobs.add(entity.getUniqueId());
-                mobManager.trackSpawnedMob(entity, mobId);
+                spawnedMobs.add(entity);
+                manager.registerOwner(entity.getUniqueId(), this);
+                updateCheckJob();
+                return true;
             }
         } catch (Exception e) {
             plugin.getLogger().warning("Erro ao spawnar mob: " + e.getMessage());
         }
+        return false;
+    }
+
+    /**
+     * Mantém a verificação agendada só enquanto ela tem trabalho: área ativa, acordada e com mobs
+     * Chamado quando um mob entra e quando a dormência muda; a própria verificação se cancela ao esvaziar
+     */
+    private void updateCheckJob() {
+        boolean needed = isActive && !dormant && !spawnedMobs.isEmpty();
+        SpawnScheduler scheduler = manager.getScheduler();
+
+        if (needed && checkJob == null) {
+            // Roda a cada tick sobre uma fatia dos mobs, cobrindo todos a cada checkInterval
+            checkJob = scheduler.schedule(area.getRegionName() + ":check", this::checkMobsLocation, 0, 1);
+        } else if (!needed && checkJob != null) {
+            scheduler.cancel(checkJob);
+            checkJob = null;
+        }
     }
 
-    /** Verifica se os mobs ainda estão na área e remove os que saíram */
+    /**
+     * Verifica uma fatia dos mobs por tick, em rodízio, e aplica a política de limite aos que saíram
+     * A fatia é o necessário para cobrir todos os mobs uma vez a cada checkInterval, limitada pelo teto global
+     * (áreas pequenas verificam poucos mobs por tick; áreas enormes levam mais que checkInterval por volta)
+     */
     private void checkMobsLocation() {
-        if (area.getRegion() == null) return;
+        if (area.getRegion() == null || isPaused()) return;
 
-        Iterator<UUID> iterator = spawnedMobs.iterator();
-        while (iterator.hasNext()) {
-            UUID uuid = iterator.next();
-            Entity entity = Bukkit.getEntity(uuid);
+        int size = spawnedMobs.size();
+        if (size == 0 || dormant) {
+            updateCheckJob();
+            return;
+        }
 
-            if (entity == null || !entity.isValid()) {
-                iterator.remove();
-                continue;
-            }
+        int interval = Math.max(1, area.getCheckInterval());
+        int slice = Math.min(manager.getCheckSliceSize(), (size + interval - 1) / interval);
 
-            Location loc = entity.getLocation();
-            if (!isInsideRegion(loc)) {
-                mobManager.untrackMob(entity);
-                entity.remove();
-                iterator.remove();
-            }
+        for (int checked = 0; checked < slice && !spawnedMobs.isEmpty(); checked++) {
+            if (checkCursor >= spawnedMobs.size()) checkCursor = 0;
+
+            // Ao remover, o último mob (ainda não visitado nesta volta) ocupa a posição do cursor
+            if (!checkMob(checkCursor)) checkCursor++;
         }
     }
 
-    /** Pega uma localização aleatória dentro do Cuboid (X/Z) e ajusta Y pelo highestBlockYAt */
-    private Location getRandomLocationInsideRegion() {
-        if (area.getRegion() == null) return null;
+    /**
+     * Verifica um mob
+     * @return false se o mob continua rastreado, true se foi removido do rastreamento
+     */
+    private boolean checkMob(int index) {
+        byte state = spawnedMobs.getState(index);
+        if (state == TrackedMobs.SUSPENDED) return false;
+
+        Entity entity = spawnedMobs.getEntity(index);
+        if (entity == null || !entity.isValid()) {
+            dropInvalid(index, entity);
+            return true;
+        }
 
-        Location lower = area.getRegion().getLowerNE(); // min XYZ
-        Location upper = area.getRegion().getUpperSW(); // max XYZ
-        World world = lower.getWorld();
+        // Lê mundo e coordenadas direto da entidade (sem Location por mob verificado)
+        World world = entity.getWorld();
+        double x = entity.getX();
+        double z = entity.getZ();
+        if (isInsideRegion(world, x, z)) {
+            spawnedMobs.clearEscaping(index);
+            return false;
+        }
 
-        if (world == null) return null;
+        if (returnToRegion(index, entity, world, x, z)) return false;
 
-        Random rand = new Random();
+        // Deixa de rastrear antes de remover: remove() dispara eventos que não podem mais achar este mob
+        manager.unregisterOwner(spawnedMobs.getId(index));
+        spawnedMobs.removeAt(index);
+        mobManager.untrackMob(entity);
+        entity.remove();
+        removedEscapedMobs++;
+        scheduleRefill(area.getRespawnDelay());
+        return true;
+    }
 
-        int minX = Math.min(lower.getBlockX(), upper.getBlockX());
-        int maxX = Math.max(lower.getBlockX(), upper.getBlockX());
-        int minZ = Math.min(lower.getBlockZ(), upper.getBlockZ());
-        int maxZ = Math.max(lower.getBlockZ(), upper.getBlockZ());
+    /**
+     * Deixa de rastrear um mob cuja entidade morreu, ficou inválida ou sumiu sem o chunk descarregar
+     * @return true se o mob morreu, false se foi perdido
+     */
+    private boolean dropInvalid(int index, Entity entity) {
+        boolean dead = entity != null && entity.isDead();
+        if (!dead) lostMobs++;
+        manager.unregisterOwner(spawnedMobs.getId(index));
+        spawnedMobs.removeAt(index);
+        scheduleRefill(area.getRespawnDelay());
+        return dead;
+    }
+
+    /**
+     * Passo do coletor de entradas obsoletas: examina até 'budget' entradas a partir do seu cursor
+     * Roda mesmo com a área parada, dormente ou pausada (quando a verificação de limites não roda)
+     * @return Quantas entradas examinou; menos que o budget significa que chegou ao fim da lista
+     */
+    int reapStep(int budget, MobReaper reaper) {
+        int examined = 0;
+        while (examined < budget) {
+            if (reapCursor >= spawnedMobs.size()) {
+                reapCursor = 0;
+                return examined;
+            }
+            examined++;
+
+            // Suspensos não têm entidade carregada: continuam válidos até o chunk voltar
+            Entity entity = spawnedMobs.getEntity(reapCursor);
+            if (spawnedMobs.getState(reapCursor) == TrackedMobs.ACTIVE && (entity == null || !entity.isValid())) {
+                reaper.recordStale(dropInvalid(reapCursor, entity));
+                continue;
+            }
+            reapCursor++;
+        }
+        return examined;
+    }
 
-        int x = minX + rand.nextInt(maxX - minX + 1);
-        int z = minZ + rand.nextInt(maxZ - minZ + 1);
+    /**
+     * Tenta devolver um mob que saiu da área segundo a política configurada
+     * Cada fuga conta uma vez em recoveredMobs, mesmo que o empurrão leve várias verificações
+     * @return true se o mob foi mantido (teleportado ou empurrado), false se deve ser removido
+     */
+    private boolean returnToRegion(int index, Entity entity, World entityWorld, double entityX, double entityZ) {
+        BoundaryPolicy policy = area.getBoundaryPolicy();
+        if (policy == BoundaryPolicy.REMOVE) return false;
+
+        RegionGeometry geometry = area.getGeometry();
+        World world = geometry.getWorld();
+        if (world == null || !geometry.isInWorld(entityWorld)) return false;
+
+        // Coluna mais próxima dentro da forma (centro do bloco)
+        long column = geometry.nearestColumn(entityX, entityZ);
+        if (column == RegionGeometry.NO_COLUMN) return false;
+
+        double x = RegionGeometry.columnX(column) + 0.5;
+        double z = RegionGeometry.columnZ(column) + 0.5;
+        if (!world.isChunkLoaded((int) Math.floor(x) >> 4, (int) Math.floor(z) >> 4)) return false;
+
+        double dx = x - entityX;
+        double dz = z - entityZ;
+        if (policy == BoundaryPolicy.PUSH && dx * dx + dz * dz <= PUSH_MAX_DISTANCE * PUSH_MAX_DISTANCE) {
+            Vector push = new Vector(dx, 0, dz);
+            if (push.lengthSquared() > 0) push.normalize().multiply(PUSH_STRENGTH);
+            entity.setVelocity(push.setY(0.2));
+            if (spawnedMobs.markEscaping(index)) recoveredMobs++;
+            return true;
+        }
 
-        // pega Y do topo do terreno +1 para spawnar no ar
-        int y = world.getHighestBlockYAt(x, z) + 1;
+        // TELEPORT, ou PUSH com o mob longe demais para voltar andando
+        int surface = area.getSurfaceCache().getSurfaceY(world, (int) Math.floor(x), (int) Math.floor(z));
+        if (surface == SpawnSurfaceCache.NO_SURFACE) return false;
+        if (!entity.teleport(new Location(world, x, surface + 1, z, entity.getYaw(), entity.getPitch()))) return false;
 
-        return new Location(world, x + 0.5, y, z + 0.5);
+        // Já contado se esta fuga começou com empurrões
+        if (!spawnedMobs.clearEscaping(index)) recoveredMobs++;
+        return true;
     }
 
-    /** Testa se um ponto está dentro do Cuboid */
-    private boolean isInsideRegion(Location loc) {
-        if (area.getRegion() == null || loc == null) return false;
+    /** Retira um ponto pronto da busca assíncrona (null se desligada ou sem pontos) */
+    private Location pollSearchedLocation() {
+        if (!manager.getSearchPool().isEnabled()) return null;
+        World world = area.getGeometry().getWorld();
+        if (world == null) return null;
+        return finder.poll(world, manager.getScheduler().getCurrentTick());
+    }
 
-        // Garante mesmo mundo
-        Location lower = area.getRegion().getLowerNE();
-        if (loc.getWorld() == null || !loc.getWorld().equals(lower.getWorld())) return false;
+    /** Pega uma localização aleatória dentro da área (X/Z) e ajusta Y pelo cache de superfície */
+    private Location getRandomLocationInsideRegion() {
+        RegionGeometry geometry = area.getGeometry();
+        if (geometry == null) return null;
+
+        World world = geometry.getWorld();
+        if (world == null) return null;
 
-        Location upper = area.getRegion().getUpperSW();
+        // Com chunk-aware, sorteio uniforme só entre as colunas em chunks carregados
+        long column = manager.isChunkAware()
+                ? area.getChunkCoverage().randomLoadedColumn(random, geometry)
+                : geometry.randomColumn(random);
+        if (column == RegionGeometry.NO_COLUMN) return null;
 
-        int x = loc.getBlockX();
-        int z = loc.getBlockZ();
+        int x = RegionGeometry.columnX(column);
+        int z = RegionGeometry.columnZ(column);
 
-        int minX = Math.min(lower.getBlockX(), upper.getBlockX());
-        int maxX = Math.max(lower.getBlockX(), upper.getBlockX());
-        int minZ = Math.min(lower.getBlockZ(), upper.getBlockZ());
-        int maxZ = Math.max(lower.getBlockZ(), upper.getBlockZ());
+        // pega Y do topo do terreno +1 para spawnar no ar (sem chão carregado na faixa Y, desiste)
+        int surface = area.getSurfaceCache().getSurfaceY(world, x, z);
+        if (surface == SpawnSurfaceCache.NO_SURFACE) return null;
+
+        return new Location(world, x + 0.5, surface + 1, z + 0.5);
+    }
 
-        return x >= minX && x <= maxX && z >= minZ && z <= maxZ;
+    /** Testa se um ponto está dentro da área (coluna X/Z, mesmo mundo) */
+    private boolean isInsideRegion(World world, double x, double z) {
+        RegionGeometry geometry = area.getGeometry();
+        return geometry != null && geometry.isInWorld(world)
+                && geometry.containsColumn((int) Math.floor(x), (int) Math.floor(z));
     }
 }
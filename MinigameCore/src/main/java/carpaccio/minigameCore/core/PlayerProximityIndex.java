@@ -0,0 +1,120 @@
+package carpaccio.minigameCore.core;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Índice de posições de jogadores em células de grade por mundo
+ * Reconstruído periodicamente; responde "há jogador perto desta área?" sem varrer todos os jogadores
+ */
+public class PlayerProximityIndex {
+
+    // Tamanho da célula em blocos (potência de 2)
+    private static final int CELL_SHIFT = 6;
+
+    private final Map<String, Map<Long, List<double[]>>> cells;
+    private int playerCount;
+
+    // ==========================================
+    // CONSTRUTOR
+    // ==========================================
+
+    public PlayerProximityIndex() {
+        this.cells = new HashMap<>();
+        this.playerCount = 0;
+    }
+
+    // ==========================================
+    // GETTERS
+    // ==========================================
+
+    /** Jogadores indexados na última reconstrução */
+    public int getPlayerCount() { return playerCount; }
+
+    // ==========================================
+    // PRINCIPAIS
+    // ==========================================
+
+    /** Reconstrói o índice com as posições atuais dos jogadores */
+    public void rebuild() {
+        cells.clear();
+        playerCount = 0;
+
+        for (World world : Bukkit.getWorlds()) {
+            List<Player> players = world.getPlayers();
+            if (players.isEmpty()) continue;
+
+            Map<Long, List<double[]>> worldCells = new HashMap<>();
+            for (Player player : players) {
+                Location loc = player.getLocation();
+                long key = cellKey(loc.getBlockX() >> CELL_SHIFT, loc.getBlockZ() >> CELL_SHIFT);
+                worldCells.computeIfAbsent(key, k -> new ArrayList<>()).add(new double[]{loc.getX(), loc.getZ()});
+                playerCount++;
+            }
+            cells.put(world.getName(), worldCells);
+        }
+    }
+
+    /**
+     * Verifica se há algum jogador a até 'radius' blocos (no plano X/Z) do retângulo informado
+     *
+     * @param worldName Mundo da área
+     * @param minX      Menor X da área
+     * @param minZ      Menor Z da área
+     * @param maxX      Maior X da área
+     * @param maxZ      Maior Z da área
+     * @param radius    Raio de ativação em blocos
+     */
+    public boolean hasPlayerNear(String worldName, int minX, int minZ, int maxX, int maxZ, int radius) {
+        Map<Long, List<double[]>> worldCells = cells.get(worldName);
+        if (worldCells == null) return false;
+
+        int fromCellX = (minX - radius) >> CELL_SHIFT;
+        int toCellX = (maxX + radius) >> CELL_SHIFT;
+        int fromCellZ = (minZ - radius) >> CELL_SHIFT;
+        int toCellZ = (maxZ + radius) >> CELL_SHIFT;
+
+        // Muitas células para olhar: é mais barato testar cada jogador do mundo
+        long cellArea = (long) (toCellX - fromCellX + 1) * (toCellZ - fromCellZ + 1);
+        if (cellArea > worldCells.size()) {
+            for (List<double[]> positions : worldCells.values()) {
+                if (anyWithin(positions, minX, minZ, maxX, maxZ, radius)) return true;
+            }
+            return false;
+        }
+
+        for (int cx = fromCellX; cx <= toCellX; cx++) {
+            for (int cz = fromCellZ; cz <= toCellZ; cz++) {
+                List<double[]> positions = worldCells.get(cellKey(cx, cz));
+                if (positions != null && anyWithin(positions, minX, minZ, maxX, maxZ, radius)) return true;
+            }
+        }
+        return false;
+    }
+
+    // ==========================================
+    // PRIVADAS
+    // ==========================================
+
+    private static boolean anyWithin(List<double[]> positions, int minX, int minZ, int maxX, int maxZ, int radius) {
+        double radiusSq = (double) radius * radius;
+        for (double[] pos : positions) {
+            // Distância do ponto ao retângulo [min, max + 1)
+            double dx = Math.max(0, Math.max(minX - pos[0], pos[0] - (maxX + 1)));
+            double dz = Math.max(0, Math.max(minZ - pos[1], pos[1] - (maxZ + 1)));
+            if (dx * dx + dz * dz <= radiusSq) return true;
+        }
+        return false;
+    }
+
+    private static long cellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+}
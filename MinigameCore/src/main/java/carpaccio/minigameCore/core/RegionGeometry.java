@@ -0,0 +1,266 @@
+package carpaccio.minigameCore.core;
+
+import carpaccio.minigameCore.utils.BlockKeys;
+import carpaccio.minigameCore.utils.Cuboid;
+import carpaccio.minigameCore.utils.Region;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.Random;
+
+/**
+ * Geometria primitiva de uma área: limites inteiros, máscara de colunas e o World já resolvido
+ * Usada no caminho quente (verificação de limites, sorteio de pontos) sem alocar nem buscar o mundo pelo nome
+ *
+ * Formas que não são caixas (polígono, cilindro, composta) são compiladas uma vez em um bitmap de colunas
+ * sobre a caixa envolvente, mais uma lista densa das colunas marcadas para sortear em O(1)
+ */
+public class RegionGeometry {
+
+    /** Coluna inexistente (retorno de sorteio/busca sem resultado) */
+    public static final long NO_COLUMN = Long.MIN_VALUE;
+
+    // Limite de colunas da caixa envolvente de formas compiladas (16M colunas = 2 MB de bitmap)
+    private static final long MAX_MASK_COLUMNS = 1L << 24;
+
+    // Raio máximo (em blocos) da busca pela coluna mais próxima fora da caixa
+    private static final int NEAREST_MAX_RING = 16;
+
+    private final String worldName;
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int maxX;
+    private final int maxY;
+    private final int maxZ;
+
+    // Null quando a forma é a própria caixa (Cuboid)
+    private final long[] mask;
+    private final int[] columns;
+
+    // Resolvido uma vez; limpo quando o mundo descarrega
+    private World world;
+
+    // ==========================================
+    // CONSTRUTOR
+    // ==========================================
+
+    public RegionGeometry(Region region) {
+        this.worldName = region.getWorldName();
+        this.minX = region.getLowerX();
+        this.minY = region.getLowerY();
+        this.minZ = region.getLowerZ();
+        this.maxX = region.getUpperX();
+        this.maxY = region.getUpperY();
+        this.maxZ = region.getUpperZ();
+
+        if (region instanceof Cuboid) {
+            this.mask = null;
+            this.columns = null;
+            return;
+        }
+
+        long total = (long) getSizeX() * getSizeZ();
+        if (total > MAX_MASK_COLUMNS) {
+            throw new IllegalArgumentException("region bounding box too large for a column mask: " + total + " columns");
+        }
+
+        // Primeiro o bitmap; a lista densa é alocada já no tamanho exato a partir dele
+        int sizeX = getSizeX();
+        long[] bits = new long[(int) ((total + 63) >>> 6)];
+        int count = 0;
+        for (int dz = 0; dz < getSizeZ(); dz++) {
+            for (int dx = 0; dx < sizeX; dx++) {
+                if (!region.containsColumn(minX + dx, minZ + dz)) continue;
+                int bit = dz * sizeX + dx;
+                bits[bit >>> 6] |= 1L << bit;
+                count++;
+            }
+        }
+
+        int[] dense = new int[count];
+        int next = 0;
+        for (int word = 0; word < bits.length; word++) {
+            long remaining = bits[word];
+            while (remaining != 0) {
+                dense[next++] = (word << 6) + Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+            }
+        }
+        this.mask = bits;
+        this.columns = dense;
+    }
+
+    // ==========================================
+    // GETTERS
+    // ==========================================
+
+    public String getWorldName() { return worldName; }
+    public int getMinX() { return minX; }
+    public int getMinY() { return minY; }
+    public int getMinZ() { return minZ; }
+    public int getMaxX() { return maxX; }
+    public int getMaxY() { return maxY; }
+    public int getMaxZ() { return maxZ; }
+    public int getSizeX() { return maxX - minX + 1; }
+    public int getSizeY() { return maxY - minY + 1; }
+    public int getSizeZ() { return maxZ - minZ + 1; }
+
+    /** Se a forma ocupa a caixa envolvente inteira (sem máscara) */
+    public boolean isFull() { return mask == null; }
+
+    /** Quantidade de colunas X/Z que pertencem à forma */
+    public long getColumnCount() {
+        return mask == null ? (long) getSizeX() * getSizeZ() : columns.length;
+    }
+
+    /** Volume da forma em blocos */
+    public long getVolume() {
+        return getColumnCount() * getSizeY();
+    }
+
+    /**
+     * Mundo da área, resolvido pelo nome só na primeira chamada
+     * @return O mundo, ou null se não estiver carregado
+     */
+    public World getWorld() {
+        World cached = world;
+        if (cached == null) {
+            cached = Bukkit.getWorld(worldName);
+            world = cached;
+        }
+        return cached;
+    }
+
+    /** Esquece o mundo resolvido (chamado quando o mundo descarrega ou carrega de novo) */
+    public void invalidateWorld() {
+        world = null;
+    }
+
+    /** Verifica se o mundo é o da área (comparação por referência, com nome como reserva) */
+    public boolean isInWorld(World other) {
+        if (other == null) return false;
+        World own = getWorld();
+        return other == own || (own == null && worldName.equals(other.getName()));
+    }
+
+    // ==========================================
+    // CONTENÇÃO
+    // ==========================================
+
+    /** Verifica se a coluna X/Z pertence à área (caixa + máscara) */
+    public boolean containsColumn(int x, int z) {
+        if (x < minX || x > maxX || z < minZ || z > maxZ) return false;
+        if (mask == null) return true;
+
+        int bit = (z - minZ) * getSizeX() + (x - minX);
+        return (mask[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    /** Verifica se o bloco pertence à área (incluindo Y) */
+    public boolean contains(int x, int y, int z) {
+        return y >= minY && y <= maxY && containsColumn(x, z);
+    }
+
+    /** Verifica se a localização está no mundo da área e dentro da coluna X/Z */
+    public boolean containsColumn(Location loc) {
+        return isInWorld(loc.getWorld()) && containsColumn(loc.getBlockX(), loc.getBlockZ());
+    }
+
+    /** Verifica se alguma coluna da área cai no chunk */
+    public boolean hasColumnsInChunk(int chunkX, int chunkZ) {
+        int fromX = Math.max(minX, chunkX << 4);
+        int toX = Math.min(maxX, (chunkX << 4) + 15);
+        int fromZ = Math.max(minZ, chunkZ << 4);
+        int toZ = Math.min(maxZ, (chunkZ << 4) + 15);
+        if (fromX > toX || fromZ > toZ) return false;
+        if (mask == null) return true;
+
+        for (int z = fromZ; z <= toZ; z++) {
+            for (int x = fromX; x <= toX; x++) {
+                if (containsColumn(x, z)) return true;
+            }
+        }
+        return false;
+    }
+
+    // ==========================================
+    // SORTEIO / APROXIMAÇÃO
+    // ==========================================
+    // Colunas são devolvidas empacotadas em um long (BlockKeys, Y = 0); use columnX/columnZ
+
+    public static int columnX(long column) {
+        return BlockKeys.unpackX(column);
+    }
+
+    public static int columnZ(long column) {
+        return BlockKeys.unpackZ(column);
+    }
+
+    /**
+     * Sorteia uma coluna uniforme dentro da forma
+     * @return A coluna, ou NO_COLUMN se a forma não tiver colunas
+     */
+    public long randomColumn(Random random) {
+        if (mask == null) {
+            return BlockKeys.pack(minX + random.nextInt(getSizeX()), 0, minZ + random.nextInt(getSizeZ()));
+        }
+        if (columns.length == 0) return NO_COLUMN;
+
+        int bit = columns[random.nextInt(columns.length)];
+        int sizeX = getSizeX();
+        return BlockKeys.pack(minX + bit % sizeX, 0, minZ + bit / sizeX);
+    }
+
+    /**
+     * Uma tentativa de sorteio dentro do chunk: sorteia uma das 256 colunas do chunk inteiro
+     * e só a aceita se pertencer à forma
+     * Chunks de borda acertam na proporção das colunas que a forma ocupa neles, então repetir a tentativa
+     * em chunks sorteados de modo uniforme dá colunas uniformes na forma
+     *
+     * @return A coluna, ou NO_COLUMN se a coluna sorteada ficou fora da forma
+     */
+    public long randomColumnInChunk(Random random, int chunkX, int chunkZ) {
+        int cell = random.nextInt(256);
+        int x = (chunkX << 4) + (cell & 15);
+        int z = (chunkZ << 4) + (cell >>> 4);
+        return containsColumn(x, z) ? BlockKeys.pack(x, 0, z) : NO_COLUMN;
+    }
+
+    /**
+     * Coluna da forma mais próxima do ponto
+     * Parte do ponto limitado à caixa envolvente e procura em anéis crescentes (até NEAREST_MAX_RING blocos)
+     *
+     * @return A coluna, ou NO_COLUMN se nenhuma estiver perto o bastante
+     */
+    public long nearestColumn(double x, double z) {
+        int startX = Math.max(minX, Math.min(maxX, (int) Math.floor(x)));
+        int startZ = Math.max(minZ, Math.min(maxZ, (int) Math.floor(z)));
+        if (containsColumn(startX, startZ)) return BlockKeys.pack(startX, 0, startZ);
+
+        long best = NO_COLUMN;
+        double bestDistSq = Double.MAX_VALUE;
+        for (int ring = 1; ring <= NEAREST_MAX_RING; ring++) {
+            // Nenhuma coluna deste anel fica a menos de (ring - 1) blocos do ponto de partida
+            if (best != NO_COLUMN && (ring - 1) * (ring - 1) > bestDistSq) break;
+
+            for (int cx = startX - ring; cx <= startX + ring; cx++) {
+                boolean edge = cx == startX - ring || cx == startX + ring;
+                int step = edge ? 1 : 2 * ring;
+                for (int cz = startZ - ring; cz <= startZ + ring; cz += step) {
+                    if (!containsColumn(cx, cz)) continue;
+
+                    double dx = cx + 0.5 - x;
+                    double dz = cz + 0.5 - z;
+                    double distSq = dx * dx + dz * dz;
+                    if (distSq < bestDistSq) {
+                        best = BlockKeys.pack(cx, 0, cz);
+                        bestDistSq = distSq;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+}
@@ -2,9 +2,12 @@ package carpaccio.minigameCore.core;
 
 import carpaccio.minigameCore.core.mobs.CustomMob;
 import carpaccio.minigameCore.utils.Cuboid;
+import carpaccio.minigameCore.utils.Region;
 import org.bukkit.Location;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -18,15 +21,38 @@ public class SpawnArea {
     // ==========================================
 
     private final String regionName;
-    private Cuboid region;
+    private Region region;
+    private boolean customShape; // forma definida diretamente (não derivada de pos1/pos2)
+    private RegionGeometry geometry;
+    private SpawnSurfaceCache surfaceCache;
+    private ChunkCoverage chunkCoverage;
     private Location pos1;
     private Location pos2;
 
     private String[] mobList;
+    private double[] mobWeights;
     private int maxMobs;
 
     private int spawnInterval;
     private int checkInterval;
+
+    // Prioridade no throttle adaptativo (0 a 10, maior degrada por último)
+    private int priority;
+
+    // Raio (em blocos) em que um jogador mantém a área acordada; 0 = sempre ativa
+    private int activationRadius;
+    private DormantAction dormantAction = DormantAction.NONE;
+
+    // O que fazer com mobs que saem da área
+    private BoundaryPolicy boundaryPolicy = BoundaryPolicy.REMOVE;
+
+    // Se a morte de um mob pede um novo spawn na hora, sem esperar o intervalo
+    private boolean refillOnDeath;
+
+    // Modo por evento: atraso mínimo após uma perda e espaçamento entre reposições (ticks)
+    private SpawnMode spawnMode = SpawnMode.INTERVAL;
+    private int respawnDelay;
+    private int respawnCooldown = 20;
     // Tirar
     private boolean autoStart;
 
@@ -42,10 +68,11 @@ public class SpawnArea {
         this.regionName = name;
         this.pos1 = pos1;
         this.pos2 = pos2;
-        this.mobList = mobList;
+        this.mobList = mobList != null ? mobList : new String[0];
+        this.mobWeights = defaultWeights(this.mobList.length);
         this.maxMobs = maxMobs;
         this.spawnInterval = spawnInterval;
-        this.checkInterval = 20; // Padrão: 1 segundo
+        this.checkInterval = checkInterval;
         this.autoStart = false;
 
         setArea(this.pos1, this.pos2);
@@ -79,8 +106,20 @@ public class SpawnArea {
      */
     public String getRegionName() { return regionName; }
 
-    /** Retorna o Cuboid atual da região */
-    public Cuboid getRegion() { return region; }
+    /** Retorna a forma atual da região (Cuboid por padrão) */
+    public Region getRegion() { return region; }
+
+    /** Se a forma foi definida diretamente (config 'shape'), e não derivada de pos1/pos2 */
+    public boolean hasCustomShape() { return customShape; }
+
+    /** Geometria primitiva da região (limites e mundo em cache), null se não houver região */
+    public RegionGeometry getGeometry() { return geometry; }
+
+    /** Retorna o cache de superfície da região (null se a região não estiver definida) */
+    public SpawnSurfaceCache getSurfaceCache() { return surfaceCache; }
+
+    /** Retorna a cobertura de chunks carregados da região (null se a região não estiver definida) */
+    public ChunkCoverage getChunkCoverage() { return chunkCoverage; }
 
     /**
      * Obtém a primeira posição
@@ -97,6 +136,22 @@ public class SpawnArea {
      */
     public String[] getMobList() { return mobList; }
 
+    /**
+     * Obtém o peso de sorteio de cada mob (mesma ordem de getMobList)
+     */
+    public double[] getMobWeights() { return mobWeights; }
+
+    /**
+     * Obtém a lista de mobs no formato da configuração ("id" ou "id:peso")
+     */
+    public List<String> getMobEntries() {
+        List<String> entries = new ArrayList<>(mobList.length);
+        for (int i = 0; i < mobList.length; i++) {
+            entries.add(mobWeights[i] == 1.0 ? mobList[i] : mobList[i] + ":" + formatWeight(mobWeights[i]));
+        }
+        return entries;
+    }
+
     /**
      * Obtém o número máximo de mobs
      */
@@ -112,6 +167,46 @@ public class SpawnArea {
      */
     public int getCheckInterval() { return checkInterval; }
 
+    /**
+     * Obtém a prioridade da área no throttle adaptativo
+     */
+    public int getPriority() { return priority; }
+
+    /**
+     * Obtém o raio de ativação por proximidade de jogadores (0 = sempre ativa)
+     */
+    public int getActivationRadius() { return activationRadius; }
+
+    /**
+     * Obtém o que fazer com os mobs quando a área fica dormente
+     */
+    public DormantAction getDormantAction() { return dormantAction; }
+
+    /**
+     * Obtém a política aplicada aos mobs que saem da área
+     */
+    public BoundaryPolicy getBoundaryPolicy() { return boundaryPolicy; }
+
+    /**
+     * Verifica se a morte de um mob pede um novo spawn imediatamente
+     */
+    public boolean isRefillOnDeath() { return refillOnDeath; }
+
+    /**
+     * Obtém o modo de spawn (por intervalo ou por evento)
+     */
+    public SpawnMode getSpawnMode() { return spawnMode; }
+
+    /**
+     * Obtém o atraso mínimo (ticks) entre a perda de um mob e a reposição (modo por evento)
+     */
+    public int getRespawnDelay() { return respawnDelay; }
+
+    /**
+     * Obtém o espaçamento mínimo (ticks) entre duas reposições (modo por evento)
+     */
+    public int getRespawnCooldown() { return respawnCooldown; }
+
     /**
      * Verifica se deve iniciar automaticamente
      */
@@ -120,33 +215,48 @@ public class SpawnArea {
     /**
      * Obtém o nome do mundo da área
      */
-    public String getWorldName() { return pos1 != null ? pos1.getWorld().getName() : null; }
+    public String getWorldName() {
+        if (region != null) return region.getWorldName();
+        return pos1 != null ? pos1.getWorld().getName() : null;
+    }
 
     // ==========================================
     // SETTERS
     // ==========================================
 
 
-    /** Define o Cuboid diretamente */
-    public void setRegion(Cuboid region) {
+    /**
+     * Define a forma da região diretamente (Cuboid, cilindro, polígono ou composta)
+     * A forma é compilada aqui em máscara de colunas; pos1/pos2 não mudam
+     */
+    public void setRegion(Region region) {
+        applyRegion(region);
+        this.customShape = region != null;
+    }
+
+    private void applyRegion(Region region) {
         this.region = region;
+        this.geometry = region != null ? new RegionGeometry(region) : null;
+        this.surfaceCache = geometry != null ? new SpawnSurfaceCache(geometry) : null;
+        this.chunkCoverage = geometry != null ? new ChunkCoverage(geometry) : null;
     }
 
     /** Atalho: define a área com duas posições e cria o Cuboid */
     public void setArea(Location a, Location b) {
+        this.customShape = false;
         if (a == null || b == null) {
-            this.region = null;
+            applyRegion(null);
             this.pos1 = a;
             this.pos2 = b;
             return;
         }
         try {
-            this.region = new Cuboid(a, b); // valida mesmo mundo e normaliza limites
+            applyRegion(new Cuboid(a, b)); // valida mesmo mundo e normaliza limites
             this.pos1 = a.clone();
             this.pos2 = b.clone();
         } catch (IllegalArgumentException ex) {
             //plugin.getLogger().warning("As posições da área precisam estar no mesmo mundo: " + ex.getMessage());
-            this.region = null;
+            applyRegion(null);
         }
     }
 
@@ -172,6 +282,43 @@ public class SpawnArea {
      */
     public void setMobList(String... ids) {
         this.mobList = ids;
+        this.mobWeights = defaultWeights(ids.length);
+    }
+
+    /**
+     * Define os mobs permitidos com seus pesos
+     */
+    public void setMobList(String[] ids, double[] weights) {
+        if (ids.length != weights.length) throw new IllegalArgumentException("ids and weights must have the same length");
+        this.mobList = ids;
+        this.mobWeights = weights;
+    }
+
+    /**
+     * Define os mobs a partir de entradas da configuração ("id" ou "id:peso")
+     * Pesos inválidos ou não positivos viram 1
+     */
+    public void setMobEntries(List<String> entries) {
+        String[] ids = new String[entries.size()];
+        double[] weights = new double[entries.size()];
+
+        for (int i = 0; i < entries.size(); i++) {
+            String entry = entries.get(i);
+            int sep = entry.lastIndexOf(':');
+            ids[i] = sep > 0 ? entry.substring(0, sep) : entry;
+            weights[i] = 1.0;
+
+            if (sep > 0) {
+                try {
+                    double weight = Double.parseDouble(entry.substring(sep + 1));
+                    if (weight > 0) weights[i] = weight;
+                } catch (NumberFormatException ignored) {
+                    ids[i] = entry;
+                }
+            }
+        }
+
+        setMobList(ids, weights);
     }
 
     /**
@@ -195,6 +342,62 @@ public class SpawnArea {
         this.checkInterval = ticks;
     }
 
+    /**
+     * Define a prioridade da área no throttle adaptativo
+     */
+    public void setPriority(int priority) {
+        this.priority = Math.max(0, Math.min(SpawnThrottle.MAX_PRIORITY, priority));
+    }
+
+    /**
+     * Define o raio de ativação por proximidade de jogadores (0 = sempre ativa)
+     */
+    public void setActivationRadius(int radius) {
+        this.activationRadius = Math.max(0, radius);
+    }
+
+    /**
+     * Define o que fazer com os mobs quando a área fica dormente
+     */
+    public void setDormantAction(DormantAction action) {
+        this.dormantAction = action != null ? action : DormantAction.NONE;
+    }
+
+    /**
+     * Define a política aplicada aos mobs que saem da área
+     */
+    public void setBoundaryPolicy(BoundaryPolicy policy) {
+        this.boundaryPolicy = policy != null ? policy : BoundaryPolicy.REMOVE;
+    }
+
+    /**
+     * Define se a morte de um mob pede um novo spawn imediatamente
+     */
+    public void setRefillOnDeath(boolean refillOnDeath) {
+        this.refillOnDeath = refillOnDeath;
+    }
+
+    /**
+     * Define o modo de spawn (por intervalo ou por evento)
+     */
+    public void setSpawnMode(SpawnMode mode) {
+        this.spawnMode = mode != null ? mode : SpawnMode.INTERVAL;
+    }
+
+    /**
+     * Define o atraso mínimo (ticks) entre a perda de um mob e a reposição
+     */
+    public void setRespawnDelay(int ticks) {
+        this.respawnDelay = Math.max(0, ticks);
+    }
+
+    /**
+     * Define o espaçamento mínimo (ticks) entre duas reposições
+     */
+    public void setRespawnCooldown(int ticks) {
+        this.respawnCooldown = Math.max(1, ticks);
+    }
+
     /**
      * Define se deve iniciar automaticamente
      */
@@ -221,6 +424,10 @@ public class SpawnArea {
             String[] newArray = Arrays.copyOf(mobList, mobList.length + 1);
             newArray[mobList.length] = id;
             mobList = newArray;
+
+            double[] newWeights = Arrays.copyOf(mobWeights, mobWeights.length + 1);
+            newWeights[mobWeights.length] = 1.0;
+            mobWeights = newWeights;
         }
     }
 
@@ -228,9 +435,33 @@ public class SpawnArea {
      * Remove um tipo de mob da lista de permitidos
      */
     public void removeMob(String id) {
-        mobList = Arrays.stream(mobList)
-                .filter(t -> t != id)
-                .toArray(String[]::new);
+        List<String> ids = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        for (int i = 0; i < mobList.length; i++) {
+            if (!mobList[i].equals(id)) {
+                ids.add(mobList[i]);
+                weights.add(mobWeights[i]);
+            }
+        }
+
+        mobList = ids.toArray(new String[0]);
+        mobWeights = weights.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    /**
+     * Notifica uma mudança de bloco; invalida a coluna do cache se estiver dentro da área
+     */
+    public void onBlockChange(String worldName, int x, int y, int z) {
+        if (surfaceCache == null || !worldName.equals(getWorldName())) return;
+        surfaceCache.invalidate(x, y, z);
+    }
+
+    /**
+     * Notifica o load/unload de um chunk; atualiza a cobertura se o chunk pertence à área
+     */
+    public void onChunkChange(String worldName, int chunkX, int chunkZ, boolean loaded) {
+        if (chunkCoverage == null || !worldName.equals(getWorldName())) return;
+        chunkCoverage.setLoaded(chunkX, chunkZ, loaded);
     }
 
     /**
@@ -262,6 +493,16 @@ public class SpawnArea {
                 autoStart
         );
         copy.setCheckInterval(checkInterval);
+        copy.setMobList(mobList.clone(), mobWeights.clone());
+        copy.setPriority(priority);
+        copy.setActivationRadius(activationRadius);
+        copy.setDormantAction(dormantAction);
+        copy.setBoundaryPolicy(boundaryPolicy);
+        copy.setRefillOnDeath(refillOnDeath);
+        copy.setSpawnMode(spawnMode);
+        copy.setRespawnDelay(respawnDelay);
+        copy.setRespawnCooldown(respawnCooldown);
+        if (customShape) copy.setRegion(region); // formas são imutáveis
         return copy;
     }
 
@@ -287,10 +528,12 @@ public class SpawnArea {
         info.append("§6Mundo: §f").append(getWorldName()).append("\n");
         info.append("§6Posição 1: §f").append(formatLocation(pos1)).append("\n");
         info.append("§6Posição 2: §f").append(formatLocation(pos2)).append("\n");
-        info.append("§6Volume: §f").append(region.getVolume()).append(" blocos\n");
-        info.append("§6Mobs: §f").append(mobList).append("\n");
+        if (customShape) info.append("§6Forma: §f").append(region).append("\n");
+        if (geometry != null) info.append("§6Volume: §f").append(geometry.getVolume()).append(" blocos\n");
+        info.append("§6Mobs: §f").append(String.join(", ", getMobEntries())).append("\n");
         info.append("§6Max Mobs: §f").append(maxMobs).append("\n");
         info.append("§6Intervalo: §f").append(spawnInterval).append(" ticks\n");
+        info.append("§6Prioridade: §f").append(priority).append("\n");
         info.append("§6Auto-Start: §f").append(autoStart ? "§aSim" : "§cNão");
 
         return info.toString();
@@ -304,6 +547,19 @@ public class SpawnArea {
                 regionName, getWorldName(), maxMobs, spawnInterval);
     }
 
+    /**
+     * Formata um peso sem casas decimais desnecessárias
+     */
+    private static String formatWeight(double weight) {
+        return weight == Math.rint(weight) ? String.valueOf((long) weight) : String.valueOf(weight);
+    }
+
+    private static double[] defaultWeights(int length) {
+        double[] weights = new double[length];
+        Arrays.fill(weights, 1.0);
+        return weights;
+    }
+
     /**
      * Formata uma localização
      */
@@ -0,0 +1,292 @@
+package carpaccio.minigameCore.core;
+
+import carpaccio.minigameCore.utils.Region;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Índice espacial das áreas de spawn em grade de chunks, por mundo
+ * Cada área é registrada em todos os chunks da sua caixa envolvente; consultas olham só os chunks envolvidos
+ * Sobreposição e distância usam a mesma caixa do registro; contenção de ponto usa a máscara de colunas da forma
+ */
+public class SpawnAreaIndex {
+
+    // Mundo -> chave do chunk -> áreas que tocam o chunk
+    private final Map<String, Map<Long, List<SpawnArea>>> cells;
+
+    // Limites (em chunks) com que cada área foi registrada, para removê-la mesmo se a região mudar
+    private final Map<SpawnArea, Entry> entries;
+    private final Map<String, List<SpawnArea>> areasByWorld;
+
+    // Chunks extremos já registrados em cada mundo (só cresce enquanto o mundo tiver áreas)
+    private final Map<String, Extent> extents;
+
+    // ==========================================
+    // CONSTRUTOR
+    // ==========================================
+
+    public SpawnAreaIndex() {
+        this.cells = new HashMap<>();
+        this.entries = new IdentityHashMap<>();
+        this.areasByWorld = new HashMap<>();
+        this.extents = new HashMap<>();
+    }
+
+    // ==========================================
+    // GETTERS
+    // ==========================================
+
+    /** Quantidade de áreas indexadas */
+    public int size() { return entries.size(); }
+
+    // ==========================================
+    // ATUALIZAÇÃO
+    // ==========================================
+
+    /** Registra a área (ou atualiza, se já estava registrada) */
+    public void add(SpawnArea area) {
+        remove(area);
+
+        RegionGeometry geometry = area.getGeometry();
+        String world = area.getWorldName();
+        if (geometry == null || world == null) return;
+
+        Entry entry = new Entry(world, geometry.getMinX() >> 4, geometry.getMinZ() >> 4,
+                geometry.getMaxX() >> 4, geometry.getMaxZ() >> 4);
+        entries.put(area, entry);
+        areasByWorld.computeIfAbsent(world, k -> new ArrayList<>()).add(area);
+        extents.computeIfAbsent(world, k -> new Extent()).include(entry);
+
+        Map<Long, List<SpawnArea>> worldCells = cells.computeIfAbsent(world, k -> new HashMap<>());
+        for (int cx = entry.minChunkX; cx <= entry.maxChunkX; cx++) {
+            for (int cz = entry.minChunkZ; cz <= entry.maxChunkZ; cz++) {
+                worldCells.computeIfAbsent(chunkKey(cx, cz), k -> new ArrayList<>(1)).add(area);
+            }
+        }
+    }
+
+    /** Remove a área do índice */
+    public void remove(SpawnArea area) {
+        Entry entry = entries.remove(area);
+        if (entry == null) return;
+
+        List<SpawnArea> worldAreas = areasByWorld.get(entry.world);
+        worldAreas.remove(area);
+        if (worldAreas.isEmpty()) {
+            areasByWorld.remove(entry.world);
+            extents.remove(entry.world);
+        }
+
+        Map<Long, List<SpawnArea>> worldCells = cells.get(entry.world);
+        for (int cx = entry.minChunkX; cx <= entry.maxChunkX; cx++) {
+            for (int cz = entry.minChunkZ; cz <= entry.maxChunkZ; cz++) {
+                long key = chunkKey(cx, cz);
+                List<SpawnArea> list = worldCells.get(key);
+                if (list == null) continue;
+                list.remove(area);
+                if (list.isEmpty()) worldCells.remove(key);
+            }
+        }
+        if (worldCells.isEmpty()) cells.remove(entry.world);
+    }
+
+    public void clear() {
+        cells.clear();
+        entries.clear();
+        areasByWorld.clear();
+        extents.clear();
+    }
+
+    // ==========================================
+    // CONSULTAS
+    // ==========================================
+
+    /**
+     * Áreas que tocam o chunk
+     * @return Lista somente leitura (vazia se nenhuma)
+     */
+    public List<SpawnArea> getAreasInChunk(String world, int chunkX, int chunkZ) {
+        Map<Long, List<SpawnArea>> worldCells = cells.get(world);
+        if (worldCells == null) return Collections.emptyList();
+
+        List<SpawnArea> list = worldCells.get(chunkKey(chunkX, chunkZ));
+        return list != null ? Collections.unmodifiableList(list) : Collections.emptyList();
+    }
+
+    /** Áreas cuja coluna X/Z contém o ponto (mesmo critério do spawn e da verificação de limites) */
+    public List<SpawnArea> getAreasAt(String world, int x, int z) {
+        List<SpawnArea> result = new ArrayList<>(1);
+        for (SpawnArea area : getAreasInChunk(world, x >> 4, z >> 4)) {
+            if (area.getGeometry().containsColumn(x, z)) result.add(area);
+        }
+        return result;
+    }
+
+    /** Áreas cuja forma contém o bloco (incluindo Y) */
+    public List<SpawnArea> getAreasAt(String world, int x, int y, int z) {
+        List<SpawnArea> result = new ArrayList<>(1);
+        for (SpawnArea area : getAreasInChunk(world, x >> 4, z >> 4)) {
+            if (area.getGeometry().contains(x, y, z)) result.add(area);
+        }
+        return result;
+    }
+
+    /** Áreas que se sobrepõem ao retângulo X/Z informado (limites inclusivos) */
+    public List<SpawnArea> getOverlapping(String world, int minX, int minZ, int maxX, int maxZ) {
+        List<SpawnArea> worldAreas = areasByWorld.get(world);
+        if (worldAreas == null) return Collections.emptyList();
+
+        List<SpawnArea> result = new ArrayList<>();
+
+        // Retângulo grande: testar cada área do mundo sai mais barato que olhar cada chunk
+        long cellCount = (long) ((maxX >> 4) - (minX >> 4) + 1) * ((maxZ >> 4) - (minZ >> 4) + 1);
+        if (cellCount > worldAreas.size()) {
+            for (SpawnArea area : worldAreas) {
+                if (overlaps(area.getRegion(), minX, minZ, maxX, maxZ)) result.add(area);
+            }
+            return result;
+        }
+
+        Set<SpawnArea> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int cx = minX >> 4; cx <= maxX >> 4; cx++) {
+            for (int cz = minZ >> 4; cz <= maxZ >> 4; cz++) {
+                for (SpawnArea area : getAreasInChunk(world, cx, cz)) {
+                    if (seen.add(area) && overlaps(area.getRegion(), minX, minZ, maxX, maxZ)) result.add(area);
+                }
+            }
+        }
+        return result;
+    }
+
+    /** Áreas que se sobrepõem à caixa envolvente da região informada (no plano X/Z) */
+    public List<SpawnArea> getOverlapping(String world, Region region) {
+        return getOverlapping(world, region.getLowerX(), region.getLowerZ(), region.getUpperX(), region.getUpperZ());
+    }
+
+    /**
+     * Área mais próxima do ponto no plano X/Z (distância 0 se o ponto estiver dentro)
+     * Procura em anéis de chunks crescentes e para assim que nenhum anel mais distante pode vencer
+     * Os anéis nunca passam dos chunks registrados no mundo, então maxDistance pode ser infinita
+     *
+     * @param maxDistance Distância máxima em blocos
+     * @return A área mais próxima, ou null se nenhuma estiver dentro da distância máxima
+     */
+    public SpawnArea getNearest(String world, double x, double z, double maxDistance) {
+        List<SpawnArea> worldAreas = areasByWorld.get(world);
+        if (worldAreas == null) return null;
+
+        int centerX = (int) Math.floor(x) >> 4;
+        int centerZ = (int) Math.floor(z) >> 4;
+        long extentRing = extents.get(world).ringsToCover(centerX, centerZ);
+        int maxRing = (int) Math.min(Math.ceil(maxDistance / 16.0) + 1, Math.min(extentRing, Integer.MAX_VALUE - 1));
+
+        SpawnArea best = null;
+        double bestDistSq = maxDistance * maxDistance;
+        long visitedCells = 0;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // Todo ponto do anel está a pelo menos (ring - 1) chunks inteiros de distância
+            double ringMin = Math.max(0, ring - 1) * 16.0;
+            if (best != null && ringMin * ringMin > bestDistSq) break;
+
+            // Anéis grandes demais: compara direto com as áreas do mundo
+            visitedCells += ring == 0 ? 1 : 8L * ring;
+            if (visitedCells > worldAreas.size() * 4L) {
+                return nearestOf(worldAreas, x, z, maxDistance);
+            }
+
+            // Só o contorno do anel: colunas das bordas inteiras, no meio apenas as duas pontas
+            for (int cx = centerX - ring; cx <= centerX + ring; cx++) {
+                boolean edge = cx == centerX - ring || cx == centerX + ring;
+                int step = edge ? 1 : 2 * ring;
+                for (int cz = centerZ - ring; cz <= centerZ + ring; cz += step) {
+                    for (SpawnArea area : getAreasInChunk(world, cx, cz)) {
+                        double distSq = distanceSq(area.getRegion(), x, z);
+                        if (distSq <= bestDistSq && (best == null || distSq < bestDistSq)) {
+                            best = area;
+                            bestDistSq = distSq;
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    // ==========================================
+    // PRIVADAS
+    // ==========================================
+
+    private static SpawnArea nearestOf(List<SpawnArea> areas, double x, double z, double maxDistance) {
+        SpawnArea best = null;
+        double bestDistSq = maxDistance * maxDistance;
+        for (SpawnArea area : areas) {
+            double distSq = distanceSq(area.getRegion(), x, z);
+            if (distSq <= bestDistSq && (best == null || distSq < bestDistSq)) {
+                best = area;
+                bestDistSq = distSq;
+            }
+        }
+        return best;
+    }
+
+    /** Distância ao quadrado do ponto ao retângulo [lower, upper + 1) da caixa envolvente */
+    private static double distanceSq(Region region, double x, double z) {
+        double dx = Math.max(0, Math.max(region.getLowerX() - x, x - (region.getUpperX() + 1)));
+        double dz = Math.max(0, Math.max(region.getLowerZ() - z, z - (region.getUpperZ() + 1)));
+        return dx * dx + dz * dz;
+    }
+
+    private static boolean overlaps(Region region, int minX, int minZ, int maxX, int maxZ) {
+        return region.getLowerX() <= maxX && region.getUpperX() >= minX
+                && region.getLowerZ() <= maxZ && region.getUpperZ() >= minZ;
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /** Retângulo (em chunks) que cobre todas as áreas registradas de um mundo */
+    private static class Extent {
+        private int minChunkX = Integer.MAX_VALUE;
+        private int minChunkZ = Integer.MAX_VALUE;
+        private int maxChunkX = Integer.MIN_VALUE;
+        private int maxChunkZ = Integer.MIN_VALUE;
+
+        private void include(Entry entry) {
+            minChunkX = Math.min(minChunkX, entry.minChunkX);
+            minChunkZ = Math.min(minChunkZ, entry.minChunkZ);
+            maxChunkX = Math.max(maxChunkX, entry.maxChunkX);
+            maxChunkZ = Math.max(maxChunkZ, entry.maxChunkZ);
+        }
+
+        /** Anel a partir do qual nenhum chunk registrado fica de fora */
+        private long ringsToCover(int chunkX, int chunkZ) {
+            long dx = Math.max(Math.abs((long) chunkX - minChunkX), Math.abs((long) maxChunkX - chunkX));
+            long dz = Math.max(Math.abs((long) chunkZ - minChunkZ), Math.abs((long) maxChunkZ - chunkZ));
+            return Math.max(dx, dz);
+        }
+    }
+
+    private static class Entry {
+        private final String world;
+        private final int minChunkX;
+        private final int minChunkZ;
+        private final int maxChunkX;
+        private final int maxChunkZ;
+
+        private Entry(String world, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ) {
+            this.world = world;
+            this.minChunkX = minChunkX;
+            this.minChunkZ = minChunkZ;
+            this.maxChunkX = maxChunkX;
+            this.maxChunkZ = maxChunkZ;
+        }
+    }
+}
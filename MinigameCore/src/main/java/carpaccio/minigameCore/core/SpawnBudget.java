@@ -0,0 +1,116 @@
+package carpaccio.minigameCore.core;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Orçamento global de spawn por tick, compartilhado por todos os MobSpawnSystem
+ * Os pedidos que não cabem no tick ficam na fila e são atendidos em rodízio nos próximos ticks
+ */
+public class SpawnBudget {
+
+    private int maxSpawnsPerTick;
+    private long maxNanosPerTick;
+
+    // Cada sistema aparece no máximo uma vez; a quantidade pendente fica no próprio sistema
+    private final Deque<MobSpawnSystem> queue;
+
+    private int spawnsLastTick;
+    private long nanosLastTick;
+    private long totalSpawns;
+    private long deferredTicks;
+
+    // ==========================================
+    // CONSTRUTOR
+    // ==========================================
+
+    /**
+     * @param maxSpawnsPerTick Máximo de spawns por tick (todas as áreas somadas)
+     * @param maxNanosPerTick  Tempo máximo gasto com spawns por tick, em nanossegundos
+     */
+    public SpawnBudget(int maxSpawnsPerTick, long maxNanosPerTick) {
+        this.maxSpawnsPerTick = Math.max(1, maxSpawnsPerTick);
+        this.maxNanosPerTick = Math.max(1, maxNanosPerTick);
+        this.queue = new ArrayDeque<>();
+    }
+
+    // ==========================================
+    // GETTERS / SETTERS
+    // ==========================================
+
+    public int getMaxSpawnsPerTick() { return maxSpawnsPerTick; }
+    public long getMaxNanosPerTick() { return maxNanosPerTick; }
+
+    public void setMaxSpawnsPerTick(int max) { this.maxSpawnsPerTick = Math.max(1, max); }
+    public void setMaxNanosPerTick(long nanos) { this.maxNanosPerTick = Math.max(1, nanos); }
+
+    /** Quantas áreas ainda têm spawns pendentes */
+    public int getQueuedAreas() { return queue.size(); }
+
+    /** Spawns realizados no último tick */
+    public int getSpawnsLastTick() { return spawnsLastTick; }
+
+    /** Tempo gasto com spawns no último tick, em nanossegundos */
+    public long getNanosLastTick() { return nanosLastTick; }
+
+    /** Total de spawns realizados através do orçamento */
+    public long getTotalSpawns() { return totalSpawns; }
+
+    /** Quantos ticks terminaram com demanda adiada para o tick seguinte */
+    public long getDeferredTicks() { return deferredTicks; }
+
+    // ==========================================
+    // PRINCIPAIS
+    // ==========================================
+
+    /**
+     * Enfileira um sistema que tem spawns pendentes
+     * Chamado pelo próprio sistema; ignorado se ele já estiver na fila
+     */
+    void enqueue(MobSpawnSystem system) {
+        if (system.isQueued()) return;
+        system.setQueued(true);
+        queue.addLast(system);
+    }
+
+    /**
+     * Atende a fila dentro do orçamento do tick
+     * Cada sistema recebe um spawn por vez e volta ao fim da fila se ainda tiver pendências
+     */
+    public void drain() {
+        spawnsLastTick = 0;
+        nanosLastTick = 0;
+        if (queue.isEmpty()) return;
+
+        long start = System.nanoTime();
+        int spawns = 0;
+
+        while (!queue.isEmpty() && spawns < maxSpawnsPerTick) {
+            if (System.nanoTime() - start >= maxNanosPerTick) break;
+
+            MobSpawnSystem system = queue.pollFirst();
+            if (system.runQueuedSpawn()) {
+                spawns++;
+            }
+            if (system.hasPendingSpawns()) {
+                queue.addLast(system);
+            } else {
+                system.setQueued(false);
+            }
+        }
+
+        spawnsLastTick = spawns;
+        nanosLastTick = System.nanoTime() - start;
+        totalSpawns += spawns;
+        if (!queue.isEmpty()) deferredTicks++;
+    }
+
+    /** Descarta toda a demanda pendente */
+    public void clear() {
+        while (!queue.isEmpty()) {
+            MobSpawnSystem system = queue.pollFirst();
+            system.clearPendingSpawns();
+            system.setQueued(false);
+        }
+    }
+}
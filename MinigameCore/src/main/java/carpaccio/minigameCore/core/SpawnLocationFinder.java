@@ -0,0 +1,280 @@
+package carpaccio.minigameCore.core;
+
+import carpaccio.minigameCore.utils.BlockKeys;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Busca pontos de spawn seguros fora da thread principal
+ * A thread principal só copia os chunks (ChunkSnapshot) e consome a fila de pontos prontos
+ * Cada ponto é revalidado no mundo ao ser consumido, e lotes mais velhos que o TTL são descartados
+ */
+public class SpawnLocationFinder {
+
+    private final SpawnSearchPool pool;
+    private final SpawnArea area;
+
+    // Lotes de posições empacotadas (BlockKeys) produzidos pelas threads de busca
+    private final Queue<Batch> ready;
+    private final AtomicInteger readyCount;
+    private final AtomicBoolean searching;
+
+    // Protege generation junto com a fila: um lote só entra se a geração ainda for a da busca
+    private final Object lock = new Object();
+    private int generation;
+
+    // Estado da thread principal
+    private Batch current;
+    private int cursor;
+    private long nextRefillTick;
+
+    // ==========================================
+    // CONSTRUTOR
+    // ==========================================
+
+    public SpawnLocationFinder(SpawnSearchPool pool, SpawnArea area) {
+        this.pool = pool;
+        this.area = area;
+        this.ready = new ConcurrentLinkedQueue<>();
+        this.readyCount = new AtomicInteger();
+        this.searching = new AtomicBoolean();
+        this.generation = 0;
+    }
+
+    // ==========================================
+    // GETTERS
+    // ==========================================
+
+    /** Quantos pontos estão prontos para uso */
+    public int getReadyCount() { return readyCount.get(); }
+
+    /** Se há uma busca em andamento */
+    public boolean isSearching() { return searching.get(); }
+
+    // ==========================================
+    // PRINCIPAIS (THREAD PRINCIPAL)
+    // ==========================================
+
+    /**
+     * Retira um ponto pronto da fila; dispara nova busca se a fila estiver baixa
+     * Pontos que deixaram de ser seguros (ou em chunk descarregado) e lotes vencidos são descartados
+     *
+     * @param world Mundo da área
+     * @param tick  Tick atual (para respeitar o intervalo entre buscas e o TTL dos lotes)
+     * @return Localização pronta, ou null se ainda não há pontos
+     */
+    public Location poll(World world, long tick) {
+        if (readyCount.get() <= pool.getLowWater()) {
+            requestSearch(world, tick);
+        }
+
+        while (true) {
+            if (current == null || cursor >= current.keys.length) {
+                current = ready.poll();
+                cursor = 0;
+                if (current == null) return null;
+            }
+
+            if (tick - current.createdTick > pool.getBatchTtl()) {
+                readyCount.addAndGet(cursor - current.keys.length);
+                current = null;
+                continue;
+            }
+
+            long key = current.keys[cursor++];
+            readyCount.decrementAndGet();
+
+            int x = BlockKeys.unpackX(key);
+            int y = BlockKeys.unpackY(key);
+            int z = BlockKeys.unpackZ(key);
+            if (isStillSafe(world, x, y, z)) {
+                return new Location(world, x + 0.5, y, z + 0.5);
+            }
+        }
+    }
+
+    /**
+     * Descarta os pontos prontos e ignora buscas ainda em andamento
+     * Mantém o intervalo entre buscas, para que mudanças de bloco seguidas não disparem uma cópia de chunks por tick
+     */
+    public void clear() {
+        synchronized (lock) {
+            generation++;
+            ready.clear();
+            readyCount.set(0);
+        }
+        current = null;
+        cursor = 0;
+    }
+
+    // ==========================================
+    // PRIVADAS
+    // ==========================================
+
+    /** Copia os chunks carregados da área e envia a busca para o pool */
+    private void requestSearch(World world, long tick) {
+        RegionGeometry geometry = area.getGeometry();
+        if (geometry == null || tick < nextRefillTick) return;
+        if (!searching.compareAndSet(false, true)) return;
+        nextRefillTick = tick + pool.getRefillCooldown();
+
+        List<ChunkSnapshot> snapshots = captureSnapshots(world, geometry);
+        if (snapshots.isEmpty()) {
+            searching.set(false);
+            return;
+        }
+
+        SearchBounds bounds = new SearchBounds(geometry, world.getMinHeight(), world.getMaxHeight());
+        int batchSize = pool.getBatchSize();
+        int searchGeneration;
+        synchronized (lock) {
+            searchGeneration = generation;
+        }
+
+        try {
+            pool.submit(() -> {
+                try {
+                    long[] found = search(snapshots, bounds, batchSize);
+                    if (found.length == 0) return;
+                    synchronized (lock) {
+                        if (searchGeneration != generation) return;
+                        ready.add(new Batch(found, tick));
+                        readyCount.addAndGet(found.length);
+                    }
+                } finally {
+                    searching.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            searching.set(false);
+        }
+    }
+
+    /** Copia até maxSnapshots chunks já carregados (que a forma ocupa); nunca carrega chunks */
+    private List<ChunkSnapshot> captureSnapshots(World world, RegionGeometry geometry) {
+        List<int[]> loaded = new ArrayList<>();
+        for (int cx = geometry.getMinX() >> 4; cx <= geometry.getMaxX() >> 4; cx++) {
+            for (int cz = geometry.getMinZ() >> 4; cz <= geometry.getMaxZ() >> 4; cz++) {
+                if (world.isChunkLoaded(cx, cz) && geometry.hasColumnsInChunk(cx, cz)) {
+                    loaded.add(new int[]{cx, cz});
+                }
+            }
+        }
+
+        if (loaded.size() > pool.getMaxSnapshots()) {
+            Collections.shuffle(loaded, ThreadLocalRandom.current());
+            loaded = loaded.subList(0, pool.getMaxSnapshots());
+        }
+
+        List<ChunkSnapshot> snapshots = new ArrayList<>(loaded.size());
+        for (int[] chunk : loaded) {
+            snapshots.add(world.getChunkAt(chunk[0], chunk[1]).getChunkSnapshot(false, false, false));
+        }
+        return snapshots;
+    }
+
+    /**
+     * Procura posições válidas nos snapshots (executado nas threads do pool)
+     * Válida: chão sólido, dois blocos de ar acima, sem lava/água, pés dentro do Y da área
+     */
+    private static long[] search(List<ChunkSnapshot> snapshots, SearchBounds bounds, int batchSize) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] found = new long[batchSize];
+        int count = 0;
+
+        int topY = Math.min(bounds.maxY, bounds.worldMaxY - 2);
+        int bottomY = Math.max(bounds.minY, bounds.worldMinY + 1);
+
+        for (int attempt = 0; attempt < batchSize * 8 && count < batchSize; attempt++) {
+            ChunkSnapshot snapshot = snapshots.get(random.nextInt(snapshots.size()));
+            int baseX = snapshot.getX() << 4;
+            int baseZ = snapshot.getZ() << 4;
+
+            int fromX = Math.max(bounds.minX, baseX);
+            int toX = Math.min(bounds.maxX, baseX + 15);
+            int fromZ = Math.max(bounds.minZ, baseZ);
+            int toZ = Math.min(bounds.maxZ, baseZ + 15);
+
+            int x = fromX + random.nextInt(toX - fromX + 1);
+            int z = fromZ + random.nextInt(toZ - fromZ + 1);
+            if (!bounds.geometry.containsColumn(x, z)) continue;
+
+            for (int y = topY; y >= bottomY; y--) {
+                if (isSafe(snapshot, x & 15, y, z & 15)) {
+                    found[count++] = BlockKeys.pack(x, y, z);
+                    break;
+                }
+            }
+        }
+
+        return count == found.length ? found : Arrays.copyOf(found, count);
+    }
+
+    /** Mesma validação de isSafe, no mundo real (thread principal); nunca carrega chunks */
+    private static boolean isStillSafe(World world, int x, int y, int z) {
+        if (!world.isChunkLoaded(x >> 4, z >> 4)) return false;
+        if (!world.getBlockAt(x, y + 1, z).getType().isAir()) return false;
+        if (!world.getBlockAt(x, y, z).getType().isAir()) return false;
+
+        Material floor = world.getBlockAt(x, y - 1, z).getType();
+        return floor.isSolid() && floor != Material.LAVA && floor != Material.WATER;
+    }
+
+    private static boolean isSafe(ChunkSnapshot snapshot, int x, int y, int z) {
+        Material head = snapshot.getBlockType(x, y + 1, z);
+        if (!head.isAir()) return false;
+
+        Material feet = snapshot.getBlockType(x, y, z);
+        if (!feet.isAir()) return false;
+
+        Material floor = snapshot.getBlockType(x, y - 1, z);
+        return floor.isSolid() && floor != Material.LAVA && floor != Material.WATER;
+    }
+
+    /** Lote de pontos de uma busca, com o tick em que os chunks foram copiados */
+    private static class Batch {
+        final long[] keys;
+        final long createdTick;
+
+        Batch(long[] keys, long createdTick) {
+            this.keys = keys;
+            this.createdTick = createdTick;
+        }
+    }
+
+    /**
+     * Limites primitivos da área, copiados na thread principal para uso nas threads de busca
+     * A máscara de colunas da geometria é imutável, então pode ser lida das threads do pool
+     */
+    private static class SearchBounds {
+        final RegionGeometry geometry;
+        final int minX, minY, minZ;
+        final int maxX, maxY, maxZ;
+        final int worldMinY, worldMaxY;
+
+        SearchBounds(RegionGeometry geometry, int worldMinY, int worldMaxY) {
+            this.geometry = geometry;
+            this.minX = geometry.getMinX();
+            this.minY = geometry.getMinY();
+            this.minZ = geometry.getMinZ();
+            this.maxX = geometry.getMaxX();
+            this.maxY = geometry.getMaxY();
+            this.maxZ = geometry.getMaxZ();
+            this.worldMinY = worldMinY;
+            this.worldMaxY = worldMaxY;
+        }
+    }
+}
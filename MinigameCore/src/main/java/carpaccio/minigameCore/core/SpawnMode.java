@@ -0,0 +1,23 @@
+package carpaccio.minigameCore.core;
+
+/**
+ * Como uma área decide quando spawnar
+ */
+public enum SpawnMode {
+    /** Tenta spawnar a cada spawn-interval, cheia ou não */
+    INTERVAL,
+    /** Só agenda spawns quando falta mob (mortes, remoções, início); área cheia não custa nada */
+    EVENT;
+
+    /**
+     * Converte um texto da configuração, usando INTERVAL se for inválido
+     */
+    public static SpawnMode fromString(String value) {
+        if (value == null) return INTERVAL;
+        try {
+            return valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return INTERVAL;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package carpaccio.minigameCore.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Agendador único em roda de tempo (timing wheel) para todas as áreas
+ * Uma só tarefa do Bukkit avança a roda a cada tick e executa apenas os trabalhos daquele slot
+ */
+public class SpawnScheduler {
+
+    // Precisa ser potência de 2 para o índice ser calculado com máscara
+    private static final int WHEEL_SIZE = 256;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final Logger logger;
+    private final List<List<ScheduledJob>> buckets;
+    private List<ScheduledJob> spare;
+
+    private long currentTick;
+    private int jobCount;
+
+    // ==========================================
+    // CONSTRUTOR
+    // ==========================================
+
+    public SpawnScheduler(Logger logger) {
+        this.logger = logger;
+        this.buckets = new ArrayList<>(WHEEL_SIZE);
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.spare = new ArrayList<>();
+        this.currentTick = 0;
+        this.jobCount = 0;
+    }
+
+    // ==========================================
+    // GETTERS
+    // ==========================================
+
+    /** Tick atual da roda (conta desde a criação do agendador) */
+    public long getCurrentTick() { return currentTick; }
+
+    /** Número de trabalhos agendados */
+    public int getJobCount() { return jobCount; }
+
+    /**
+     * Lista os trabalhos que serão executados em um tick específico
+     *
+     * @param tick Tick absoluto (use getCurrentTick() + n para olhar n ticks à frente)
+     * @return Lista somente leitura dos trabalhos daquele tick
+     */
+    public List<ScheduledJob> getWorkForTick(long tick) {
+        if (tick <= currentTick) return Collections.emptyList();
+
+        List<ScheduledJob> work = new ArrayList<>();
+        for (ScheduledJob job : buckets.get(slot(tick))) {
+            if (!job.cancelled && job.nextTick == tick) {
+                work.add(job);
+            }
+        }
+        return Collections.unmodifiableList(work);
+    }
+
+    // ==========================================
+    // AGENDAMENTO
+    // ==========================================
+
+    /**
+     * Agenda um trabalho repetitivo
+     *
+     * @param name     Nome para inspeção (ex: "arena:spawn")
+     * @param task     Trabalho a executar
+     * @param delay    Atraso inicial em ticks (0 = próximo tick)
+     * @param interval Intervalo entre execuções em ticks
+     * @return Handle do trabalho, usado para cancelar ou reagendar
+     */
+    public ScheduledJob schedule(String name, Runnable task, int delay, int interval) {
+        ScheduledJob job = new ScheduledJob(name, task, Math.max(1, interval));
+        insert(job, currentTick + Math.max(1, delay));
+        jobCount++;
+        return job;
+    }
+
+    /**
+     * Agenda um trabalho que executa uma única vez
+     *
+     * @param name  Nome para inspeção (ex: "arena:refill")
+     * @param task  Trabalho a executar
+     * @param delay Atraso em ticks (0 = próximo tick)
+     * @return Handle do trabalho, usado para cancelar
+     */
+    public ScheduledJob scheduleOnce(String name, Runnable task, int delay) {
+        ScheduledJob job = new ScheduledJob(name, task, 0);
+        insert(job, currentTick + Math.max(1, delay));
+        jobCount++;
+        return job;
+    }
+
+    /** Cancela um trabalho; ele é descartado na próxima passagem pelo seu slot */
+    public void cancel(ScheduledJob job) {
+        if (job == null || job.cancelled) return;
+        job.cancelled = true;
+        jobCount--;
+    }
+
+    /**
+     * Altera o intervalo de um trabalho já agendado
+     * Se a próxima execução ficar mais distante que o novo intervalo, ela é antecipada
+     */
+    public void reschedule(ScheduledJob job, int interval) {
+        if (job == null || job.cancelled || job.isOneShot()) return;
+
+        job.interval = Math.max(1, interval);
+        long target = currentTick + job.interval;
+        if (job.nextTick > target) {
+            buckets.get(slot(job.nextTick)).remove(job);
+            insert(job, target);
+        }
+    }
+
+    // ==========================================
+    // EXECUÇÃO
+    // ==========================================
+
+    /** Avança a roda em um tick e executa os trabalhos vencidos */
+    public void tick() {
+        currentTick++;
+
+        int index = slot(currentTick);
+        List<ScheduledJob> bucket = buckets.get(index);
+        if (bucket.isEmpty()) return;
+
+        // Troca o slot por uma lista vazia para permitir reinserção no mesmo slot
+        buckets.set(index, spare);
+
+        for (ScheduledJob job : bucket) {
+            if (job.cancelled) continue;
+
+            if (job.nextTick != currentTick) {
+                // Ainda faltam voltas completas na roda
+                buckets.get(index).add(job);
+                continue;
+            }
+
+            try {
+                job.task.run();
+            } catch (Exception e) {
+                logger.log(Level.WARNING, "Erro no trabalho agendado '" + job.name + "'", e);
+            }
+
+            if (job.cancelled) continue;
+
+            if (job.isOneShot()) {
+                job.cancelled = true;
+                jobCount--;
+            } else {
+                insert(job, currentTick + job.interval);
+            }
+        }
+
+        bucket.clear();
+        spare = bucket;
+    }
+
+    /** Remove todos os trabalhos */
+    public void clear() {
+        for (List<ScheduledJob> bucket : buckets) {
+            for (ScheduledJob job : bucket) {
+                job.cancelled = true;
+            }
+            bucket.clear();
+        }
+        jobCount = 0;
+    }
+
+    // ==========================================
+    // PRIVADAS
+    // ==========================================
+
+    private void insert(ScheduledJob job, long tick) {
+        job.nextTick = tick;
+        buckets.get(slot(tick)).add(job);
+    }
+
+    private static int slot(long tick) {
+        return (int) (tick & WHEEL_MASK);
+    }
+
+    // ==========================================
+    // HANDLE DE TRABALHO
+    // ==========================================
+
+    /**
+     * Trabalho agendado na roda
+     */
+    public static class ScheduledJob {
+        private final String name;
+        private final Runnable task;
+        private int interval;
+        private long nextTick;
+        private boolean cancelled;
+
+        private ScheduledJob(String name, Runnable task, int interval) {
+            this.name = name;
+            this.task = task;
+            this.interval = interval;
+        }
+
+        public String getName() { return name; }
+        public int getInterval() { return interval; }
+        public long getNextTick() { return nextTick; }
+        public boolean isCancelled() { return cancelled; }
+
+        /** Se o trabalho executa uma única vez (intervalo 0) */
+        public boolean isOneShot() { return interval == 0; }
+
+        @Override
+        public String toString() {
+            return name + "@" + nextTick + (isOneShot() ? " (uma vez)" : " (cada " + interval + "t)");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package carpaccio.minigameCore.core;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool de threads e configurações da busca assíncrona de pontos de spawn
+ * Compartilhado por todos os SpawnLocationFinder
+ */
+public class SpawnSearchPool {
+
+    private final boolean enabled;
+    private final int threads;
+    private final int batchSize;
+    private final int lowWater;
+    private final int refillCooldown;
+    private final int maxSnapshots;
+    private final int batchTtl;
+
+    private ExecutorService executor;
+
+    // ==========================================
+    // CONSTRUTOR
+    // ==========================================
+
+    /**
+     * @param enabled        Se a busca assíncrona está ligada
+     * @param threads        Número de threads de busca
+     * @param batchSize      Pontos procurados por busca
+     * @param lowWater       Abaixo desta quantidade de pontos prontos uma nova busca é disparada
+     * @param refillCooldown Ticks mínimos entre duas buscas da mesma área
+     * @param maxSnapshots   Máximo de chunks copiados por busca
+     * @param batchTtl       Ticks que um lote de pontos continua válido após a cópia dos chunks
+     */
+    public SpawnSearchPool(boolean enabled, int threads, int batchSize, int lowWater,
+                           int refillCooldown, int maxSnapshots, int batchTtl) {
+        this.enabled = enabled;
+        this.threads = Math.max(1, threads);
+        this.batchSize = Math.max(1, batchSize);
+        this.lowWater = Math.max(0, lowWater);
+        this.refillCooldown = Math.max(1, refillCooldown);
+        this.maxSnapshots = Math.max(1, maxSnapshots);
+        this.batchTtl = Math.max(1, batchTtl);
+    }
+
+    /** Busca assíncrona desligada: as áreas usam apenas o cache de superfície */
+    public static SpawnSearchPool disabled() {
+        return new SpawnSearchPool(false, 1, 16, 4, 40, 16, 200);
+    }
+
+    // ==========================================
+    // GETTERS
+    // ==========================================
+
+    public boolean isEnabled() { return enabled; }
+    public int getBatchSize() { return batchSize; }
+    public int getLowWater() { return lowWater; }
+    public int getRefillCooldown() { return refillCooldown; }
+    public int getMaxSnapshots() { return maxSnapshots; }
+    public int getBatchTtl() { return batchTtl; }
+
+    // ==========================================
+    // PRINCIPAIS
+    // ==========================================
+
+    /** Envia uma busca para as threads do pool (criadas na primeira chamada) */
+    public void submit(Runnable task) {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(threads, new SearchThreadFactory());
+        }
+        executor.execute(task);
+    }
+
+    /** Encerra as threads do pool */
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private static class SearchThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "MinigameCore-SpawnSearch-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package carpaccio.minigameCore.core;
+
+import org.bukkit.World;
+
+import java.util.Arrays;
+
+/**
+ * Cache da superfície de spawn (bloco mais alto) de cada coluna X/Z de uma área
+ * Guardado em um short[] compacto; colunas alteradas são invalidadas e recalculadas sob demanda
+ * A superfície fica sempre dentro da faixa Y da área e nunca é calculada em chunk descarregado
+ */
+public class SpawnSurfaceCache {
+
+    /** Retorno de getSurfaceY quando a coluna não tem superfície utilizável agora */
+    public static final int NO_SURFACE = Integer.MIN_VALUE;
+
+    private static final short UNKNOWN = Short.MIN_VALUE;
+    // Coluna calculada, mas sem chão dentro da faixa Y da área
+    private static final short NONE = Short.MIN_VALUE + 1;
+
+    private final RegionGeometry geometry;
+    private final int minX;
+    private final int minZ;
+    private final int minY;
+    private final int maxY;
+    private final int sizeX;
+    private final int sizeZ;
+    private final short[] heights;
+
+    // ==========================================
+    // CONSTRUTOR
+    // ==========================================
+
+    public SpawnSurfaceCache(RegionGeometry geometry) {
+        this.geometry = geometry;
+        this.minX = geometry.getMinX();
+        this.minZ = geometry.getMinZ();
+        this.minY = geometry.getMinY();
+        this.maxY = geometry.getMaxY();
+        this.sizeX = geometry.getSizeX();
+        this.sizeZ = geometry.getSizeZ();
+        this.heights = new short[sizeX * sizeZ];
+        Arrays.fill(heights, UNKNOWN);
+    }
+
+    // ==========================================
+    // PRINCIPAIS
+    // ==========================================
+
+    /**
+     * Calcula de uma vez todas as colunas em chunks carregados
+     * Colunas em chunks descarregados ficam para depois, evitando carregar chunks
+     * Colunas da caixa fora da forma são puladas (nunca são sorteadas)
+     */
+    public void build(World world) {
+        for (int dz = 0; dz < sizeZ; dz++) {
+            for (int dx = 0; dx < sizeX; dx++) {
+                int x = minX + dx;
+                int z = minZ + dz;
+                if (!geometry.containsColumn(x, z) || !world.isChunkLoaded(x >> 4, z >> 4)) continue;
+                heights[dz * sizeX + dx] = computeSurface(world, x, z);
+            }
+        }
+    }
+
+    /**
+     * Obtém o Y do chão da coluna (o mob fica em Y + 1, dentro da faixa Y da área)
+     * Só consulta o mundo se a coluna ainda não foi calculada ou foi invalidada, e nunca carrega chunks
+     *
+     * @return Y do chão, ou NO_SURFACE se a coluna está fora da área, em chunk descarregado
+     *         ou sem chão dentro da faixa Y
+     */
+    public int getSurfaceY(World world, int x, int z) {
+        if (!containsColumn(x, z)) return NO_SURFACE;
+
+        int index = index(x, z);
+        short y = heights[index];
+        if (y == UNKNOWN) {
+            if (!world.isChunkLoaded(x >> 4, z >> 4)) return NO_SURFACE;
+            y = computeSurface(world, x, z);
+            heights[index] = y;
+        }
+        return y == NONE ? NO_SURFACE : y;
+    }
+
+    /**
+     * Invalida a coluna se a mudança ocorreu no topo ou acima dele
+     * Mudanças abaixo da superfície não alteram o bloco mais alto
+     */
+    public void invalidate(int x, int y, int z) {
+        if (!containsColumn(x, z)) return;
+
+        int index = index(x, z);
+        if (heights[index] != UNKNOWN && y >= heights[index]) {
+            heights[index] = UNKNOWN;
+        }
+    }
+
+    /** Invalida todas as colunas */
+    public void invalidateAll() {
+        Arrays.fill(heights, UNKNOWN);
+    }
+
+    /** Verifica se a coluna pertence à área */
+    public boolean containsColumn(int x, int z) {
+        return x >= minX && x < minX + sizeX && z >= minZ && z < minZ + sizeZ;
+    }
+
+    // ==========================================
+    // PRIVADAS
+    // ==========================================
+
+    /**
+     * Chão da coluna limitado à faixa Y da área (chunk já carregado)
+     * Se o bloco mais alto passa do topo da área, desce procurando um bloco sólido (ex: área sob um teto)
+     */
+    private short computeSurface(World world, int x, int z) {
+        int highest = world.getHighestBlockYAt(x, z);
+        int top = maxY - 1;
+        int bottom = minY - 1;
+
+        if (highest <= top) {
+            return highest >= bottom ? (short) highest : NONE;
+        }
+        for (int y = top; y >= bottom; y--) {
+            if (world.getBlockAt(x, y, z).getType().isSolid()) return (short) y;
+        }
+        return NONE;
+    }
+
+    private int index(int x, int z) {
+        return (z - minZ) * sizeX + (x - minX);
+    }
+}
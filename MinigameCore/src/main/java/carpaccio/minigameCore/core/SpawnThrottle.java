@@ -0,0 +1,133 @@
+package carpaccio.minigameCore.core;
+
+import org.bukkit.Bukkit;
+
+/**
+ * Controle adaptativo de spawn baseado no MSPT/TPS do servidor
+ * Reduz suavemente a taxa de spawn e o maxMobs das áreas quando o servidor está sobrecarregado,
+ * com histerese para não oscilar e prioridade por área (áreas importantes degradam por último)
+ */
+public class SpawnThrottle {
+
+    public static final int MAX_PRIORITY = 10;
+
+    private final boolean enabled;
+    private final double msptHigh;
+    private final double msptLow;
+    private final double msptCritical;
+    private final double tpsCritical;
+    private final double smoothing;
+    private final double minFactor;
+    private final int sampleInterval;
+
+    private boolean degraded;
+    private double pressure;
+    private double lastMspt;
+    private double lastTps;
+    private int ticksUntilSample;
+
+    // ==========================================
+    // CONSTRUTOR
+    // ==========================================
+
+    /**
+     * @param enabled        Se o modo adaptativo está ligado
+     * @param msptHigh       MSPT a partir do qual o modo degradado é ativado
+     * @param msptLow        MSPT abaixo do qual o modo degradado é desativado (histerese)
+     * @param msptCritical   MSPT em que a pressão chega ao máximo
+     * @param tpsCritical    TPS em que a pressão chega ao máximo
+     * @param smoothing      Peso de cada amostra na média móvel (0-1)
+     * @param minFactor      Fator mínimo aplicado às áreas de menor prioridade
+     * @param sampleInterval Intervalo entre amostras em ticks
+     */
+    public SpawnThrottle(boolean enabled, double msptHigh, double msptLow, double msptCritical,
+                         double tpsCritical, double smoothing, double minFactor, int sampleInterval) {
+        this.enabled = enabled;
+        this.msptHigh = msptHigh;
+        this.msptLow = Math.min(msptLow, msptHigh);
+        this.msptCritical = Math.max(msptCritical, msptHigh + 1);
+        this.tpsCritical = Math.min(tpsCritical, 19.0);
+        this.smoothing = clamp(smoothing, 0.01, 1.0);
+        this.minFactor = clamp(minFactor, 0.0, 1.0);
+        this.sampleInterval = Math.max(1, sampleInterval);
+
+        this.degraded = false;
+        this.pressure = 0.0;
+        this.lastMspt = 0.0;
+        this.lastTps = 20.0;
+        this.ticksUntilSample = 0;
+    }
+
+    /** Throttle desligado: todas as áreas sempre com fator 1 */
+    public static SpawnThrottle disabled() {
+        return new SpawnThrottle(false, 45, 35, 60, 15, 0.2, 0.1, 20);
+    }
+
+    // ==========================================
+    // GETTERS
+    // ==========================================
+
+    public boolean isEnabled() { return enabled; }
+    public boolean isDegraded() { return degraded; }
+
+    /** Pressão suavizada do servidor, de 0 (saudável) a 1 (crítico) */
+    public double getPressure() { return pressure; }
+
+    public double getLastMspt() { return lastMspt; }
+    public double getLastTps() { return lastTps; }
+
+    // ==========================================
+    // PRINCIPAIS
+    // ==========================================
+
+    /** Chamado a cada tick; amostra o servidor a cada sampleInterval ticks */
+    public void tick() {
+        if (!enabled) return;
+        if (--ticksUntilSample > 0) return;
+        ticksUntilSample = sampleInterval;
+
+        lastMspt = Bukkit.getAverageTickTime();
+        lastTps = Bukkit.getTPS()[0];
+
+        // Histerese: entra acima de msptHigh, só sai abaixo de msptLow
+        if (!degraded && lastMspt >= msptHigh) {
+            degraded = true;
+        } else if (degraded && lastMspt <= msptLow) {
+            degraded = false;
+        }
+
+        double target = 0.0;
+        if (degraded) {
+            double msptPressure = (lastMspt - msptLow) / (msptCritical - msptLow);
+            double tpsPressure = (20.0 - lastTps) / (20.0 - tpsCritical);
+            target = clamp(Math.max(msptPressure, tpsPressure), 0.0, 1.0);
+        }
+
+        pressure += (target - pressure) * smoothing;
+        if (pressure < 0.001) pressure = 0.0;
+    }
+
+    /**
+     * Fator de escala para uma área (1 = normal, minFactor = máxima redução)
+     * Quanto maior a prioridade, maior a pressão necessária para a área começar a degradar
+     *
+     * @param priority Prioridade da área (0 a MAX_PRIORITY)
+     */
+    public double getFactor(int priority) {
+        if (!enabled || pressure <= 0.0) return 1.0;
+
+        double threshold = clamp(priority, 0, MAX_PRIORITY) / (MAX_PRIORITY + 1.0);
+        if (pressure <= threshold) return 1.0;
+
+        double load = clamp((pressure - threshold) / (1.0 - threshold), 0.0, 1.0);
+        return 1.0 - load * (1.0 - minFactor);
+    }
+
+    // ==========================================
+    // PRIVADAS
+    // ==========================================
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
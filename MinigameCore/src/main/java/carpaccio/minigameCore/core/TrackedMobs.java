@@ -0,0 +1,203 @@
+package carpaccio.minigameCore.core;
+
+import carpaccio.minigameCore.utils.UuidSet;
+import org.bukkit.entity.Entity;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Mobs rastreados por um sistema de spawn, guardados como referências fracas diretas às entidades
+ * A verificação percorre os arrays sem consultar o mundo; as referências são renovadas pelos
+ * eventos de entrada/saída de entidades no mundo (EntityAddToWorldEvent / EntityRemoveFromWorldEvent)
+ * Mobs em chunks descarregados ficam suspensos: continuam rastreados, sem referência, até o chunk voltar
+ */
+public class TrackedMobs {
+
+    /** Estados de um mob rastreado */
+    public static final byte ACTIVE = 0;
+    public static final byte SUSPENDED = 1;
+
+    // UUIDs em um conjunto primitivo; handles e states seguem as mesmas posições densas
+    private final UuidSet ids;
+    private WeakReference<Entity>[] handles;
+    private byte[] states;
+    private int suspendedCount;
+
+    // Mob fora da área sendo devolvido (empurrão em andamento); limpo quando ele volta para dentro
+    private boolean[] escaping;
+
+    // ==========================================
+    // CONSTRUTOR
+    // ==========================================
+
+    @SuppressWarnings("unchecked")
+    public TrackedMobs() {
+        this.ids = new UuidSet();
+        this.handles = new WeakReference[16];
+        this.states = new byte[16];
+        this.escaping = new boolean[16];
+        this.suspendedCount = 0;
+    }
+
+    // ==========================================
+    // GETTERS
+    // ==========================================
+
+    /** Quantidade de mobs rastreados */
+    public int size() { return ids.size(); }
+
+    public boolean isEmpty() { return ids.isEmpty(); }
+
+    public boolean contains(UUID id) { return ids.contains(id); }
+
+    /** Quantidade de mobs suspensos (em chunks descarregados) */
+    public int getSuspendedCount() { return suspendedCount; }
+
+    /** Estado do mob na posição informada (ACTIVE ou SUSPENDED) */
+    public byte getState(int index) { return states[index]; }
+
+    /** UUID do mob na posição informada */
+    public UUID getId(int index) { return ids.get(index); }
+
+    /**
+     * Entidade do mob na posição informada
+     * @return A entidade, ou null se ela saiu do mundo (morte, remoção ou chunk descarregado)
+     */
+    public Entity getEntity(int index) {
+        WeakReference<Entity> handle = handles[index];
+        return handle != null ? handle.get() : null;
+    }
+
+    /** Visão somente leitura dos UUIDs rastreados (mesmas posições de getEntity/getState) */
+    public UuidSet.View getIds() { return ids.view(); }
+
+    // ==========================================
+    // PRINCIPAIS
+    // ==========================================
+
+    /** Passa a rastrear a entidade */
+    public void add(Entity entity) {
+        UUID id = entity.getUniqueId();
+        int position = ids.indexOf(id);
+        if (position >= 0) {
+            setState(position, ACTIVE);
+            handles[position] = new WeakReference<>(entity);
+            return;
+        }
+
+        position = ids.size();
+        if (position == handles.length) {
+            handles = Arrays.copyOf(handles, position * 2);
+            states = Arrays.copyOf(states, position * 2);
+            escaping = Arrays.copyOf(escaping, position * 2);
+        }
+        ids.add(id);
+        handles[position] = new WeakReference<>(entity);
+        states[position] = ACTIVE;
+        escaping[position] = false;
+    }
+
+    /**
+     * Deixa de rastrear o mob (troca com o último; ao percorrer de trás para frente, é seguro remover o atual)
+     * @return true se o mob estava rastreado
+     */
+    public boolean remove(UUID id) {
+        return remove(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+
+    /** Remove o mob na posição informada */
+    public void removeAt(int index) {
+        remove(ids.getMostSignificantBits(index), ids.getLeastSignificantBits(index));
+    }
+
+    /**
+     * Renova a referência de um mob que (re)entrou no mundo e o reativa se estava suspenso
+     * @return true se o mob é rastreado aqui
+     */
+    public boolean attach(Entity entity) {
+        int position = ids.indexOf(entity.getUniqueId());
+        if (position < 0) return false;
+        handles[position] = new WeakReference<>(entity);
+        setState(position, ACTIVE);
+        return true;
+    }
+
+    /**
+     * Suspende um mob cujo chunk descarregou: continua rastreado (e contando), sem referência
+     * @return true se o mob é rastreado aqui
+     */
+    public boolean suspend(UUID id) {
+        int position = ids.indexOf(id);
+        if (position < 0) return false;
+        handles[position] = null;
+        setState(position, SUSPENDED);
+        return true;
+    }
+
+    /**
+     * Solta a referência de um mob que saiu do mundo, sem deixar de rastreá-lo
+     * @return true se o mob é rastreado aqui
+     */
+    public boolean detach(UUID id) {
+        int position = ids.indexOf(id);
+        if (position < 0) return false;
+        handles[position] = null;
+        return true;
+    }
+
+    /**
+     * Marca o mob na posição como fora da área (início de uma fuga)
+     * @return true se a marca é nova (primeira devolução desta fuga)
+     */
+    public boolean markEscaping(int index) {
+        if (escaping[index]) return false;
+        escaping[index] = true;
+        return true;
+    }
+
+    /**
+     * Limpa a marca de fuga do mob na posição (ele voltou para dentro)
+     * @return true se o mob estava marcado
+     */
+    public boolean clearEscaping(int index) {
+        boolean was = escaping[index];
+        escaping[index] = false;
+        return was;
+    }
+
+    public void clear() {
+        Arrays.fill(handles, 0, ids.size(), null);
+        Arrays.fill(escaping, 0, ids.size(), false);
+        ids.clear();
+        suspendedCount = 0;
+    }
+
+    // ==========================================
+    // PRIVADAS
+    // ==========================================
+
+    private boolean remove(long msb, long lsb) {
+        int position = ids.indexOf(msb, lsb);
+        if (position < 0) return false;
+
+        if (states[position] == SUSPENDED) suspendedCount--;
+        int last = ids.size() - 1;
+        ids.remove(msb, lsb);
+        if (position != last) {
+            handles[position] = handles[last];
+            states[position] = states[last];
+            escaping[position] = escaping[last];
+        }
+        escaping[last] = false;
+        handles[last] = null;
+        return true;
+    }
+
+    private void setState(int position, byte state) {
+        if (states[position] == SUSPENDED) suspendedCount--;
+        if (state == SUSPENDED) suspendedCount++;
+        states[position] = state;
+    }
+}
@@ -1,5 +1,6 @@
 package carpaccio.minigameCore.core.loot;
 
+import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.enchantments.Enchantment;
@@ -18,6 +19,9 @@ public class CustomLoot {
     private final List<String> lore;
     private final List<EnchantmentData> enchantments;
 
+    // Item pronto (quantidade 1), montado uma vez no construtor; cada drop é um clone com setAmount
+    private final ItemStack template;
+
     public CustomLoot(Material material, int minAmount, int maxAmount, double dropChance) {
         this.material = material;
         this.minAmount = minAmount;
@@ -26,6 +30,7 @@ public class CustomLoot {
         this.displayName = null;
         this.lore = new ArrayList<>();
         this.enchantments = new ArrayList<>();
+        this.template = compileTemplate(true);
     }
 
     public CustomLoot(Material material, int minAmount, int maxAmount, double dropChance,
@@ -37,6 +42,7 @@ public class CustomLoot {
         this.displayName = displayName;
         this.lore = lore != null ? lore : new ArrayList<>();
         this.enchantments = enchantments != null ? enchantments : new ArrayList<>();
+        this.template = compileTemplate(true);
     }
 
     public ItemStack generateDrop(Random random) {
@@ -44,10 +50,24 @@ public class CustomLoot {
             return null;
         }
 
-        int amount = minAmount + random.nextInt(maxAmount - minAmount + 1);
-        ItemStack item = new ItemStack(material, amount);
+        return createDrop(minAmount + random.nextInt(maxAmount - minAmount + 1));
+    }
 
-        if (displayName != null || !lore.isEmpty() || !enchantments.isEmpty()) {
+    /** Cópia do item base com a quantidade informada (sem sorteio de chance) */
+    ItemStack createDrop(int amount) {
+        ItemStack item = template.clone();
+        item.setAmount(amount);
+        return item;
+    }
+
+    /**
+     * Monta o item base: meta (nome, lore) e encantamentos já resolvidos
+     * Encantamentos desconhecidos são ignorados (com aviso no log se warnUnknown)
+     */
+    ItemStack compileTemplate(boolean warnUnknown) {
+        ItemStack item = new ItemStack(material, 1);
+
+        if (displayName != null || !lore.isEmpty()) {
             ItemMeta meta = item.getItemMeta();
             if (meta != null) {
                 if (displayName != null) {
@@ -58,13 +78,17 @@ public class CustomLoot {
                 }
                 item.setItemMeta(meta);
             }
+        }
 
-            if (!enchantments.isEmpty()){
-                for (EnchantmentData enchData : enchantments) {
-                    Enchantment enchantment = Enchantment.getByName(enchData.enchantment);
-                    item.addUnsafeEnchantment(enchantment, enchData.level);
+        for (EnchantmentData enchData : enchantments) {
+            Enchantment enchantment = Enchantment.getByName(enchData.enchantment);
+            if (enchantment == null) {
+                if (warnUnknown) {
+                    Bukkit.getLogger().warning("Encantamento desconhecido ignorado no loot " + material + ": " + enchData.enchantment);
                 }
+                continue;
             }
+            item.addUnsafeEnchantment(enchantment, enchData.level);
         }
 
         return item;
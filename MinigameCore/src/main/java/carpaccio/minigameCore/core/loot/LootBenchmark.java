@@ -0,0 +1,94 @@
+package carpaccio.minigameCore.core.loot;
+
+/**
+ * Micro-benchmark dos drops de uma LootTable no servidor real (ItemStack, meta e encantamentos dependem dele)
+ * Compara o caminho antigo (item montado do zero a cada drop: meta, lore e busca dos encantamentos pelo nome)
+ * com o atual (clone do item base montado uma vez)
+ *
+ * A chance de drop é ignorada: todo item da tabela é gerado em cada rodada, com quantidade 1
+ */
+public final class LootBenchmark {
+
+    // Rodadas descartadas antes de medir (aquece o JIT e o carregamento de classes)
+    private static final int WARMUP = 200;
+
+    private LootBenchmark() {}
+
+    /**
+     * Executa os dois caminhos alternadamente, uma rodada da tabela inteira de cada vez
+     *
+     * @param table  Tabela a medir
+     * @param rounds Rodadas medidas por caminho
+     * @return Resultados do caminho antigo e do atual, nessa ordem
+     */
+    public static Result[] run(LootTable table, int rounds) {
+        Result legacy = new Result("montagem por drop");
+        Result template = new Result("clone do item base");
+
+        for (int i = 0; i < WARMUP; i++) {
+            roundLegacy(table, null);
+            roundTemplate(table, null);
+        }
+        for (int i = 0; i < rounds; i++) {
+            roundLegacy(table, legacy);
+            roundTemplate(table, template);
+        }
+        return new Result[]{legacy, template};
+    }
+
+    // ==========================================
+    // CAMINHOS
+    // ==========================================
+
+    /** Caminho antigo: cada drop monta o item do zero */
+    private static void roundLegacy(LootTable table, Result result) {
+        long start = System.nanoTime();
+        for (CustomLoot loot : table.getLoots()) {
+            loot.compileTemplate(false);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (result != null) result.record(elapsed, table.getLoots().size());
+    }
+
+    /** Caminho atual: cada drop é um clone do item base */
+    private static void roundTemplate(LootTable table, Result result) {
+        long start = System.nanoTime();
+        for (CustomLoot loot : table.getLoots()) {
+            loot.createDrop(1);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (result != null) result.record(elapsed, table.getLoots().size());
+    }
+
+    // ==========================================
+    // RESULTADO
+    // ==========================================
+
+    /**
+     * Totais de um caminho
+     */
+    public static class Result {
+        private final String name;
+        private long drops;
+        private long nanos;
+
+        private Result(String name) {
+            this.name = name;
+        }
+
+        private void record(long elapsed, int items) {
+            drops += items;
+            nanos += elapsed;
+        }
+
+        public String getName() { return name; }
+        public long getDrops() { return drops; }
+
+        /** Tempo médio por item gerado em nanossegundos */
+        public double getNanosPerDrop() {
+            return drops == 0 ? 0 : (double) nanos / drops;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package carpaccio.minigameCore.core.mobs;
 
 import org.bukkit.Location;
 import org.bukkit.attribute.Attribute;
+import org.bukkit.entity.Ageable;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.LivingEntity;
@@ -11,6 +12,7 @@ import org.bukkit.potion.PotionEffect;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class CustomMob {
     private final String id;
@@ -47,53 +49,109 @@ public class CustomMob {
         this.lootTableId = builder.lootTableId;
     }
 
+    /**
+     * Spawna o mob já configurado
+     * O template é aplicado antes da entidade entrar no mundo, então ela já é enviada
+     * aos jogadores com nome, atributos, equipamentos e efeitos, sem atualizações extras
+     */
     public Entity spawn(Location location) {
-        Entity entity = location.getWorld().spawnEntity(location, entityType);
+        return spawn(location, null);
+    }
 
-        if (entity instanceof LivingEntity) {
-            LivingEntity living = (LivingEntity) entity;
+    /**
+     * Spawna o mob já configurado, executando 'beforeAdd' depois do template e ainda fora do mundo
+     * (usado para marcar a entidade antes de qualquer evento de entrada no mundo)
+     */
+    public Entity spawn(Location location, Consumer<Entity> beforeAdd) {
+        Class<? extends Entity> entityClass = entityType.getEntityClass();
+        if (entityClass == null) return null;
+
+        return location.getWorld().spawn(location, entityClass, entity -> {
+            applyTemplate(entity);
+            if (beforeAdd != null) beforeAdd.accept(entity);
+        });
+    }
 
-            if (displayName != null) {
-                living.setCustomName(displayName);
-                living.setCustomNameVisible(true);
-            }
+    /**
+     * Aplica todas as configurações do CustomMob em uma entidade ainda fora do mundo
+     *
+     * @return Quantas alterações visíveis ao cliente foram feitas (nome, vida, atributos, filhote,
+     *         cada equipamento e cada efeito); com a entidade já no mundo, cada uma vira uma atualização
+     */
+    int applyTemplate(Entity entity) {
+        if (!(entity instanceof LivingEntity)) return 0;
+        LivingEntity living = (LivingEntity) entity;
+        int updates = 0;
+
+        if (displayName != null) {
+            living.setCustomName(displayName);
+            living.setCustomNameVisible(true);
+            updates++;
+        }
 
-            if (health > 0) {
-                living.getAttribute(Attribute.MAX_HEALTH).setBaseValue(health);
-                living.setHealth(health);
-            }
+        if (health > 0) {
+            living.getAttribute(Attribute.MAX_HEALTH).setBaseValue(health);
+            living.setHealth(health);
+            updates += 2;
+        }
 
-            if (damage > 0 && living.getAttribute(Attribute.ATTACK_DAMAGE) != null) {
-                living.getAttribute(Attribute.ATTACK_DAMAGE).setBaseValue(damage);
-            }
+        if (damage > 0 && living.getAttribute(Attribute.ATTACK_DAMAGE) != null) {
+            living.getAttribute(Attribute.ATTACK_DAMAGE).setBaseValue(damage);
+            updates++;
+        }
 
-            if (speed > 0) {
-                living.getAttribute(Attribute.MOVEMENT_SPEED).setBaseValue(speed);
-            }
+        if (speed > 0) {
+            living.getAttribute(Attribute.MOVEMENT_SPEED).setBaseValue(speed);
+            updates++;
+        }
 
-            EntityEquipment equipment = living.getEquipment();
-            if (equipment != null) {
-                if (helmet != null) equipment.setHelmet(helmet);
-                if (chestplate != null) equipment.setChestplate(chestplate);
-                if (leggings != null) equipment.setLeggings(leggings);
-                if (boots != null) equipment.setBoots(boots);
-                if (mainHand != null) equipment.setItemInMainHand(mainHand);
-                if (offHand != null) equipment.setItemInOffHand(offHand);
-
-                equipment.setHelmetDropChance(0.0f);
-                equipment.setChestplateDropChance(0.0f);
-                equipment.setLeggingsDropChance(0.0f);
-                equipment.setBootsDropChance(0.0f);
-                equipment.setItemInMainHandDropChance(0.0f);
-                equipment.setItemInOffHandDropChance(0.0f);
-            }
+        if (baby && living instanceof Ageable) {
+            ((Ageable) living).setBaby();
+            updates++;
+        }
 
-            for (PotionEffect effect : potionEffects) {
-                living.addPotionEffect(effect);
+        EntityEquipment equipment = living.getEquipment();
+        if (equipment != null) {
+            if (helmet != null) {
+                equipment.setHelmet(helmet);
+                updates++;
+            }
+            if (chestplate != null) {
+                equipment.setChestplate(chestplate);
+                updates++;
+            }
+            if (leggings != null) {
+                equipment.setLeggings(leggings);
+                updates++;
+            }
+            if (boots != null) {
+                equipment.setBoots(boots);
+                updates++;
+            }
+            if (mainHand != null) {
+                equipment.setItemInMainHand(mainHand);
+                updates++;
+            }
+            if (offHand != null) {
+                equipment.setItemInOffHand(offHand);
+                updates++;
             }
+
+            // Chances de drop ficam só no servidor
+
+            equipment.setHelmetDropChance(0.0f);
+            equipment.setChestplateDropChance(0.0f);
+            equipment.setLeggingsDropChance(0.0f);
+            equipment.setBootsDropChance(0.0f);
+            equipment.setItemInMainHandDropChance(0.0f);
+            equipment.setItemInOffHandDropChance(0.0f);
         }
 
-        return entity;
+        for (PotionEffect effect : potionEffects) {
+            living.addPotionEffect(effect);
+            updates++;
+        }
+        return updates;
     }
 
     public String getId() {
@@ -104,6 +162,10 @@ public class CustomMob {
         return lootTableId;
     }
 
+    public EntityType getEntityType() {
+        return entityType;
+    }
+
     public static class Builder {
         private final String id;
         private final EntityType entityType;
@@ -1,7 +1,11 @@
 package carpaccio.minigameCore.core.mobs;
 
 import carpaccio.minigameCore.core.loot.LootTable;
+import org.bukkit.NamespacedKey;
 import org.bukkit.entity.Entity;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.Plugin;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -12,13 +16,19 @@ public class MobManager {
     private final Map<String, CustomMob> customMobs;
     private final Map<String, LootTable> lootTables;
 
-    // Rastreamento: Entity -> ID do CustomMob
-    private final Map<Entity, String> spawnedMobs;
+    // Rastreamento: marcas no PersistentDataContainer das entidades (ID do CustomMob e área dona)
+    private final NamespacedKey mobIdKey;
+    private final NamespacedKey areaKey;
 
-    public MobManager() {
+    // Marca de mob congelado pela dormência (sobrevive ao unload do chunk e a reinícios, como o próprio NoAI)
+    private final NamespacedKey frozenKey;
+
+    public MobManager(Plugin plugin) {
         this.customMobs = new HashMap<>();
         this.lootTables = new HashMap<>();
-        this.spawnedMobs = new HashMap<>();
+        this.mobIdKey = new NamespacedKey(plugin, "mob_id");
+        this.areaKey = new NamespacedKey(plugin, "spawn_area");
+        this.frozenKey = new NamespacedKey(plugin, "frozen");
     }
 
     // ==================== Registro de Mobs e Loot Tables ====================
@@ -44,13 +54,17 @@ public class MobManager {
     // ==================== Rastreamento de Entidades ====================
 
     /**
-     * Registra uma entidade spawnada e qual CustomMob ela representa
+     * Marca uma entidade spawnada com o CustomMob que ela representa e a área que a criou
+     * As marcas ficam no PersistentDataContainer da própria entidade (nada é guardado aqui)
      *
      * @param entity A entidade que foi spawnada
      * @param mobId O ID do CustomMob (usado para buscar loot table depois)
+     * @param areaName Nome da área de spawn dona do mob (pode ser null)
      */
-    public void trackSpawnedMob(Entity entity, String mobId) {
-        spawnedMobs.put(entity, mobId);
+    public void trackSpawnedMob(Entity entity, String mobId, String areaName) {
+        PersistentDataContainer data = entity.getPersistentDataContainer();
+        data.set(mobIdKey, PersistentDataType.STRING, mobId);
+        if (areaName != null) data.set(areaKey, PersistentDataType.STRING, areaName);
     }
 
     /**
@@ -61,60 +75,63 @@ public class MobManager {
      * @return O ID do CustomMob, ou null se não estiver rastreada
      */
     public String getSpawnedMobId(Entity entity) {
-        return spawnedMobs.get(entity);
+        return entity.getPersistentDataContainer().get(mobIdKey, PersistentDataType.STRING);
     }
 
     /**
-     * Remove uma entidade do rastreamento
+     * Busca qual área de spawn criou uma entidade
+     *
+     * @param entity A entidade a ser consultada
+     * @return O nome da área, ou null se a entidade não veio de uma área
+     */
+    public String getSpawnedMobArea(Entity entity) {
+        return entity.getPersistentDataContainer().get(areaKey, PersistentDataType.STRING);
+    }
+
+    /**
+     * Remove as marcas de rastreamento de uma entidade
      * Deve ser chamado quando o mob morre ou é removido
      *
      * @param entity A entidade a ser removida do rastreamento
      */
     public void untrackMob(Entity entity) {
-        spawnedMobs.remove(entity);
+        PersistentDataContainer data = entity.getPersistentDataContainer();
+        data.remove(mobIdKey);
+        data.remove(areaKey);
     }
 
     /**
-     * Verifica se uma entidade está sendo rastreada
+     * Marca ou desmarca uma entidade como congelada pela dormência da área
      *
-     * @param entity A entidade a verificar
-     * @return true se está rastreada, false caso contrário
+     * @param entity A entidade
+     * @param frozen true para marcar, false para desmarcar
      */
-    public boolean isTracked(Entity entity) {
-        return spawnedMobs.containsKey(entity);
+    public void setFrozen(Entity entity, boolean frozen) {
+        if (frozen) {
+            entity.getPersistentDataContainer().set(frozenKey, PersistentDataType.BYTE, (byte) 1);
+        } else {
+            entity.getPersistentDataContainer().remove(frozenKey);
+        }
     }
 
     /**
-     * Retorna quantas entidades estão sendo rastreadas atualmente
+     * Verifica se uma entidade foi congelada pela dormência (e ainda está sem IA por isso)
      *
-     * @return Número total de entidades rastreadas
+     * @param entity A entidade a verificar
+     * @return true se está marcada como congelada
      */
-    public int getTrackedMobCount() {
-        return spawnedMobs.size();
+    public boolean isFrozen(Entity entity) {
+        return entity.getPersistentDataContainer().has(frozenKey, PersistentDataType.BYTE);
     }
 
     /**
-     * Limpa todas as entidades mortas/inválidas do rastreamento
-     * Deve ser chamado periodicamente para evitar memory leaks
+     * Verifica se uma entidade está sendo rastreada
      *
-     * @return Número de entidades limpas
+     * @param entity A entidade a verificar
+     * @return true se está rastreada, false caso contrário
      */
-    public int cleanupDeadMobs() {
-        int removed = 0;
-        List<Entity> toRemove = new ArrayList<>();
-
-        for (Entity entity : spawnedMobs.keySet()) {
-            if (entity.isDead() || !entity.isValid()) {
-                toRemove.add(entity);
-            }
-        }
-
-        for (Entity entity : toRemove) {
-            spawnedMobs.remove(entity);
-            removed++;
-        }
-
-        return removed;
+    public boolean isTracked(Entity entity) {
+        return entity.getPersistentDataContainer().has(mobIdKey, PersistentDataType.STRING);
     }
 
     // ==================== Contadores ====================
@@ -0,0 +1,116 @@
+package carpaccio.minigameCore.core.mobs;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+
+/**
+ * Micro-benchmark do spawn de um CustomMob no servidor real
+ * Compara o caminho antigo (spawnEntity e depois o template, com a entidade já no mundo)
+ * com o atual (template aplicado no consumer do spawn, antes de entrar no mundo)
+ *
+ * A API do Paper não expõe os pacotes enviados, então eles são estimados: cada alteração feita com a
+ * entidade já no mundo vira uma atualização (metadados, atributo, equipamento ou efeito) para cada
+ * jogador que a acompanha. No caminho atual tudo segue junto com o pacote de spawn
+ */
+public final class SpawnBenchmark {
+
+    // Spawns descartados antes de medir (aquece o JIT e o carregamento de classes)
+    private static final int WARMUP = 10;
+
+    private SpawnBenchmark() {}
+
+    /**
+     * Executa os dois caminhos alternadamente na thread principal; cada entidade é removida logo após medir
+     *
+     * @param mob      Mob a spawnar
+     * @param location Onde spawnar (chunk carregado)
+     * @param count    Spawns medidos por caminho
+     * @return Resultados do caminho antigo e do atual, nessa ordem
+     */
+    public static Result[] run(CustomMob mob, Location location, int count) {
+        Result legacy = new Result("spawnEntity + mutações");
+        Result template = new Result("consumer pré-spawn");
+
+        for (int i = 0; i < WARMUP; i++) {
+            spawnLegacy(mob, location, null);
+            spawnTemplate(mob, location, null);
+        }
+        for (int i = 0; i < count; i++) {
+            spawnLegacy(mob, location, legacy);
+            spawnTemplate(mob, location, template);
+        }
+        return new Result[]{legacy, template};
+    }
+
+    // ==========================================
+    // CAMINHOS
+    // ==========================================
+
+    /** Caminho antigo: a entidade entra no mundo crua e é configurada depois */
+    private static void spawnLegacy(CustomMob mob, Location location, Result result) {
+        World world = location.getWorld();
+        long start = System.nanoTime();
+        Entity entity = world.spawnEntity(location, mob.getEntityType());
+        int updates = mob.applyTemplate(entity);
+        long elapsed = System.nanoTime() - start;
+
+        if (result != null) result.record(elapsed, updates, entity.getTrackedPlayers().size());
+        entity.remove();
+    }
+
+    /** Caminho atual: a entidade já entra no mundo configurada */
+    private static void spawnTemplate(CustomMob mob, Location location, Result result) {
+        long start = System.nanoTime();
+        Entity entity = mob.spawn(location);
+        long elapsed = System.nanoTime() - start;
+        if (entity == null) return;
+
+        if (result != null) result.record(elapsed, 0, entity.getTrackedPlayers().size());
+        entity.remove();
+    }
+
+    // ==========================================
+    // RESULTADO
+    // ==========================================
+
+    /**
+     * Totais de um caminho
+     */
+    public static class Result {
+        private final String name;
+        private int spawns;
+        private long nanos;
+        private long updates;
+        private long packets;
+
+        private Result(String name) {
+            this.name = name;
+        }
+
+        private void record(long elapsed, int postAddUpdates, int viewers) {
+            spawns++;
+            nanos += elapsed;
+            updates += postAddUpdates;
+            packets += (long) postAddUpdates * viewers;
+        }
+
+        public String getName() { return name; }
+        public int getSpawns() { return spawns; }
+
+        /** Tempo médio por spawn em microssegundos */
+        public double getMicrosPerSpawn() {
+            return spawns == 0 ? 0 : nanos / 1000.0 / spawns;
+        }
+
+        /** Alterações feitas com a entidade já no mundo, por spawn */
+        public double getUpdatesPerSpawn() {
+            return spawns == 0 ? 0 : (double) updates / spawns;
+        }
+
+        /** Pacotes extras estimados por spawn (alterações pós-spawn × jogadores acompanhando) */
+        public double getPacketsPerSpawn() {
+            return spawns == 0 ? 0 : (double) packets / spawns;
+        }
+    }
+}
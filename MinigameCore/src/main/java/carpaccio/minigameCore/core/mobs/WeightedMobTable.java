@@ -0,0 +1,89 @@
+package carpaccio.minigameCore.core.mobs;
+
+import java.util.Random;
+
+/**
+ * Tabela de sorteio ponderado de CustomMobs em tempo constante (método alias de Vose)
+ * Montada uma vez quando a lista de mobs da área muda; cada sorteio custa um nextInt e um nextDouble
+ */
+public class WeightedMobTable {
+
+    private final CustomMob[] mobs;
+    private final double[] probability;
+    private final int[] alias;
+
+    // ==========================================
+    // CONSTRUTOR
+    // ==========================================
+
+    /**
+     * @param mobs    Mobs já resolvidos (sem nulls)
+     * @param weights Peso de cada mob (mesmo tamanho de mobs, todos positivos)
+     */
+    public WeightedMobTable(CustomMob[] mobs, double[] weights) {
+        if (mobs.length != weights.length) {
+            throw new IllegalArgumentException("mobs and weights must have the same length");
+        }
+
+        int n = mobs.length;
+        this.mobs = mobs.clone();
+        this.probability = new double[n];
+        this.alias = new int[n];
+        if (n == 0) return;
+
+        double sum = 0;
+        for (double weight : weights) sum += weight;
+
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / sum;
+            if (scaled[i] < 1.0) small[smallCount++] = i;
+            else large[largeCount++] = i;
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+
+            probability[less] = scaled[less];
+            alias[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) small[smallCount++] = more;
+            else large[largeCount++] = more;
+        }
+
+        // Sobras (por arredondamento) ficam com probabilidade 1
+        while (largeCount > 0) probability[large[--largeCount]] = 1.0;
+        while (smallCount > 0) probability[small[--smallCount]] = 1.0;
+    }
+
+    // ==========================================
+    // PRINCIPAIS
+    // ==========================================
+
+    /** Quantidade de mobs na tabela */
+    public int size() {
+        return mobs.length;
+    }
+
+    public boolean isEmpty() {
+        return mobs.length == 0;
+    }
+
+    /**
+     * Sorteia um mob de acordo com os pesos
+     * @return O mob sorteado, ou null se a tabela estiver vazia
+     */
+    public CustomMob sample(Random random) {
+        if (mobs.length == 0) return null;
+
+        int column = random.nextInt(mobs.length);
+        return random.nextDouble() < probability[column] ? mobs[column] : mobs[alias[column]];
+    }
+}
@@ -0,0 +1,46 @@
+package carpaccio.minigameCore.listeners;
+
+import carpaccio.minigameCore.core.MobSpawnManager;
+
+import org.bukkit.Chunk;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+/**
+ * Mantém a cobertura de chunks carregados de cada área atualizada
+ * e o mundo em cache das áreas quando mundos carregam ou descarregam
+ */
+public class ChunkCoverageListener implements Listener {
+    private final MobSpawnManager spawnManager;
+
+    public ChunkCoverageListener(MobSpawnManager spawnManager) {
+        this.spawnManager = spawnManager;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        Chunk chunk = event.getChunk();
+        spawnManager.onChunkChange(chunk.getWorld().getName(), chunk.getX(), chunk.getZ(), true);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        Chunk chunk = event.getChunk();
+        spawnManager.onChunkChange(chunk.getWorld().getName(), chunk.getX(), chunk.getZ(), false);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldLoad(WorldLoadEvent event) {
+        spawnManager.onWorldChange(event.getWorld().getName());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        spawnManager.onWorldChange(event.getWorld().getName());
+    }
+}
@@ -0,0 +1,55 @@
+package carpaccio.minigameCore.listeners;
+
+import carpaccio.minigameCore.core.MobSpawnManager;
+
+import org.bukkit.block.Block;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+
+import java.util.List;
+
+/**
+ * Mantém os caches de superfície de spawn atualizados quando blocos mudam dentro das áreas
+ */
+public class SpawnSurfaceListener implements Listener {
+    private final MobSpawnManager spawnManager;
+
+    public SpawnSurfaceListener(MobSpawnManager spawnManager) {
+        this.spawnManager = spawnManager;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        notifyChange(event.getBlockPlaced());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        notifyChange(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        notifyChanges(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        notifyChanges(event.blockList());
+    }
+
+    private void notifyChanges(List<Block> blocks) {
+        for (Block block : blocks) {
+            notifyChange(block);
+        }
+    }
+
+    private void notifyChange(Block block) {
+        spawnManager.onBlockChange(block.getWorld().getName(), block.getX(), block.getY(), block.getZ());
+    }
+}
@@ -0,0 +1,67 @@
+package carpaccio.minigameCore.listeners;
+
+import carpaccio.minigameCore.core.MobSpawnManager;
+
+import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.EntityRemoveEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+
+/**
+ * Mantém as referências diretas aos mobs das áreas atualizadas
+ * quando eles entram ou saem do mundo (spawn, morte, remoção, load/unload de chunk)
+ * Mortes são atribuídas à área dona na hora; mobs de chunks descarregados ficam suspensos e são reassumidos quando os chunks carregam
+ * Demais remoções (despawn, outros plugins, transformação...) liberam a vaga na hora pelo motivo do EntityRemoveEvent
+ */
+public class TrackedMobListener implements Listener {
+    private final MobSpawnManager spawnManager;
+
+    public TrackedMobListener(MobSpawnManager spawnManager) {
+        this.spawnManager = spawnManager;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityAdd(EntityAddToWorldEvent event) {
+        spawnManager.onEntityAdded(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityDeath(EntityDeathEvent event) {
+        spawnManager.onMobDeath(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        spawnManager.onEntitiesLoad(event.getEntities());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        spawnManager.onEntitiesUnload(event.getEntities());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemove(EntityRemoveFromWorldEvent event) {
+        spawnManager.onEntityRemoved(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemoveCause(EntityRemoveEvent event) {
+        switch (event.getCause()) {
+            case UNLOAD:
+                spawnManager.onEntityUnloaded(event.getEntity());
+                break;
+            case DEATH:
+                // Já tratada pelo EntityDeathEvent
+                break;
+            default:
+                spawnManager.onEntityDiscarded(event.getEntity());
+                break;
+        }
+    }
+}
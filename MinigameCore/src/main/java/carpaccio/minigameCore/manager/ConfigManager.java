@@ -1,6 +1,9 @@
 package carpaccio.minigameCore.manager;
 
 import carpaccio.minigameCore.MinigameCore;
+import carpaccio.minigameCore.core.SpawnBudget;
+import carpaccio.minigameCore.core.SpawnSearchPool;
+import carpaccio.minigameCore.core.SpawnThrottle;
 import carpaccio.minigameCore.core.loot.CustomLoot;
 import carpaccio.minigameCore.core.loot.LootTable;
 import carpaccio.minigameCore.core.mobs.CustomMob;
@@ -203,6 +206,61 @@ public class ConfigManager {
         }
     }
 
+    public static SpawnBudget loadSpawnBudget(MinigameCore plugin, FileConfiguration config) {
+        ConfigurationSection budgetSection = config.getConfigurationSection("spawn_budget");
+        if (budgetSection == null) {
+            plugin.getLogger().warning("Seção 'spawn_budget' não encontrada, usando valores padrão.");
+            return new SpawnBudget(10, 2_000_000L);
+        }
+
+        int maxSpawns = budgetSection.getInt("max_spawns_per_tick", 10);
+        long maxNanos = budgetSection.getLong("max_nanos_per_tick", 2_000_000L);
+
+        plugin.getLogger().info("Orçamento de spawn: " + maxSpawns + " spawns / " + maxNanos + "ns por tick");
+        return new SpawnBudget(maxSpawns, maxNanos);
+    }
+
+    public static SpawnThrottle loadSpawnThrottle(MinigameCore plugin, FileConfiguration config) {
+        ConfigurationSection throttleSection = config.getConfigurationSection("adaptive_throttle");
+        if (throttleSection == null || !throttleSection.getBoolean("enabled", false)) {
+            return SpawnThrottle.disabled();
+        }
+
+        SpawnThrottle throttle = new SpawnThrottle(
+                true,
+                throttleSection.getDouble("mspt_high", 45.0),
+                throttleSection.getDouble("mspt_low", 35.0),
+                throttleSection.getDouble("mspt_critical", 60.0),
+                throttleSection.getDouble("tps_critical", 15.0),
+                throttleSection.getDouble("smoothing", 0.2),
+                throttleSection.getDouble("min_factor", 0.1),
+                throttleSection.getInt("sample_interval", 20)
+        );
+
+        plugin.getLogger().info("Throttle adaptativo de spawn ativado.");
+        return throttle;
+    }
+
+    public static SpawnSearchPool loadSpawnSearch(MinigameCore plugin, FileConfiguration config) {
+        ConfigurationSection searchSection = config.getConfigurationSection("spawn_search");
+        if (searchSection == null || !searchSection.getBoolean("enabled", false)) {
+            return SpawnSearchPool.disabled();
+        }
+
+        SpawnSearchPool pool = new SpawnSearchPool(
+                true,
+                searchSection.getInt("threads", 2),
+                searchSection.getInt("batch_size", 16),
+                searchSection.getInt("low_water", 4),
+                searchSection.getInt("refill_cooldown", 40),
+                searchSection.getInt("max_snapshots", 16),
+                searchSection.getInt("batch_ttl", 200)
+        );
+
+        plugin.getLogger().info("Busca assíncrona de pontos de spawn ativada.");
+        return pool;
+    }
+
     private static ItemStack loadItemStack(ConfigurationSection section) {
         if (section == null) return null;
 
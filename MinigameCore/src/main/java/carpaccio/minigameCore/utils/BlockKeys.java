@@ -0,0 +1,27 @@
+package carpaccio.minigameCore.utils;
+
+/**
+ * Empacota coordenadas de bloco em um único long (mesmo layout do BlockPos do Minecraft)
+ * X e Z usam 26 bits cada e Y usa 12 bits, todos com sinal
+ */
+public final class BlockKeys {
+
+    private BlockKeys() {
+    }
+
+    public static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    public static int unpackX(long key) {
+        return (int) (key >> 38);
+    }
+
+    public static int unpackY(long key) {
+        return (int) (key << 52 >> 52);
+    }
+
+    public static int unpackZ(long key) {
+        return (int) (key << 26 >> 38);
+    }
+}
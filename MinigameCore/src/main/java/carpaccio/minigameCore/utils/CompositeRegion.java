@@ -0,0 +1,87 @@
+package carpaccio.minigameCore.utils;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Região composta: união das regiões incluídas menos as regiões excluídas
+ * Todas as partes precisam estar no mesmo mundo; a caixa envolvente é a das partes incluídas
+ * Como as demais formas, é prismática: o Y vale de ponta a ponta da caixa envolvente
+ */
+public class CompositeRegion implements Region {
+
+    private final String worldName;
+    private final Region[] include;
+    private final Region[] exclude;
+
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int maxX;
+    private final int maxY;
+    private final int maxZ;
+
+    public CompositeRegion(List<? extends Region> include, List<? extends Region> exclude) {
+        if (include.isEmpty()) throw new IllegalArgumentException("a composite region needs at least one included region");
+
+        this.worldName = include.get(0).getWorldName();
+        this.include = include.toArray(new Region[0]);
+        this.exclude = (exclude != null ? exclude : Collections.<Region>emptyList()).toArray(new Region[0]);
+
+        int lowX = Integer.MAX_VALUE, lowY = Integer.MAX_VALUE, lowZ = Integer.MAX_VALUE;
+        int highX = Integer.MIN_VALUE, highY = Integer.MIN_VALUE, highZ = Integer.MIN_VALUE;
+        for (Region part : this.include) {
+            checkWorld(part);
+            lowX = Math.min(lowX, part.getLowerX());
+            lowY = Math.min(lowY, part.getLowerY());
+            lowZ = Math.min(lowZ, part.getLowerZ());
+            highX = Math.max(highX, part.getUpperX());
+            highY = Math.max(highY, part.getUpperY());
+            highZ = Math.max(highZ, part.getUpperZ());
+        }
+        for (Region part : this.exclude) checkWorld(part);
+
+        this.minX = lowX;
+        this.minY = lowY;
+        this.minZ = lowZ;
+        this.maxX = highX;
+        this.maxY = highY;
+        this.maxZ = highZ;
+    }
+
+    public List<Region> getIncluded() { return List.of(include); }
+    public List<Region> getExcluded() { return List.of(exclude); }
+
+    @Override public String getWorldName() { return worldName; }
+    @Override public int getLowerX() { return minX; }
+    @Override public int getLowerY() { return minY; }
+    @Override public int getLowerZ() { return minZ; }
+    @Override public int getUpperX() { return maxX; }
+    @Override public int getUpperY() { return maxY; }
+    @Override public int getUpperZ() { return maxZ; }
+
+    /** Subtração é feita por coluna: uma parte excluída remove a coluna inteira */
+    @Override
+    public boolean containsColumn(int x, int z) {
+        if (x < minX || x > maxX || z < minZ || z > maxZ) return false;
+
+        for (Region part : exclude) {
+            if (part.containsColumn(x, z)) return false;
+        }
+        for (Region part : include) {
+            if (part.containsColumn(x, z)) return true;
+        }
+        return false;
+    }
+
+    private void checkWorld(Region part) {
+        if (!worldName.equals(part.getWorldName())) {
+            throw new IllegalArgumentException("all parts of a composite region must be in the same world");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CompositeRegion{" + worldName + ", include=" + include.length + ", exclude=" + exclude.length + "}";
+    }
+}
@@ -1,13 +1,22 @@
 package carpaccio.minigameCore.utils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.block.Block;
@@ -19,7 +28,10 @@ import org.bukkit.configuration.serialization.ConfigurationSerializable;
  * This class is a region/cuboid from one location to another. It can be used for blocks protection and things like WorldEdit.
  * @author desht (Original code), KingFaris10 (Editor of code)
  */
-public class Cuboid implements Iterable<Block>, Cloneable, ConfigurationSerializable {
+public class Cuboid implements Region, Iterable<Block>, Cloneable, ConfigurationSerializable {
+    /** Largest Cuboid (in blocks) that {@link #getBlocks()} will materialize. */
+    public static final int MAX_BLOCK_LIST = 1 << 20;
+
     protected final String worldName;
     protected final int x1, y1, z1;
     protected final int x2, y2, z2;
@@ -148,16 +160,49 @@ public class Cuboid implements Iterable<Block>, Cloneable, ConfigurationSerializ
     }
 
     /**
-     * Get the blocks in the Cuboid.
+     * Get the blocks in the Cuboid, in chunk order.
+     * Refuses Cuboids with more than {@link #MAX_BLOCK_LIST} blocks; stream {@link #positions()} for those.
      *
      * @return The blocks in the Cuboid
+     * @throws IllegalStateException if the Cuboid is too large to list
      */
     public List<Block> getBlocks() {
-        Iterator<Block> blockI = this.iterator();
-        List<Block> copy = new ArrayList<Block>();
-        while (blockI.hasNext())
-            copy.add(blockI.next());
-        return copy;
+        long volume = (long) this.getSizeX() * this.getSizeY() * this.getSizeZ();
+        if (volume > MAX_BLOCK_LIST) {
+            throw new IllegalStateException("Cuboid has " + volume + " blocks, more than " + MAX_BLOCK_LIST + "; use positions() or blocks() instead");
+        }
+        return this.blocks().collect(Collectors.toCollection(() -> new ArrayList<Block>((int) volume)));
+    }
+
+    /**
+     * Get a lazy, splittable spliterator over the positions in the Cuboid, packed with {@link BlockKeys}.
+     * Positions are visited chunk by chunk and splits happen on chunk boundaries.
+     *
+     * @return A spliterator of packed block positions
+     */
+    public Spliterator.OfLong positionSpliterator() {
+        return new CuboidSpliterator(this.x1, this.y1, this.z1, this.x2, this.y2, this.z2);
+    }
+
+    /**
+     * Get a lazy stream over the positions in the Cuboid, packed with {@link BlockKeys}.
+     * No Block objects are created, so the stream may be filtered, short-circuited or made parallel off the main thread.
+     *
+     * @return A sequential stream of packed block positions
+     */
+    public LongStream positions() {
+        return StreamSupport.longStream(this.positionSpliterator(), false);
+    }
+
+    /**
+     * Get a lazy stream over the blocks in the Cuboid, in chunk order.
+     * Blocks are resolved one at a time, so this must be consumed sequentially on the main thread.
+     *
+     * @return A sequential stream of blocks
+     */
+    public Stream<Block> blocks() {
+        World w = this.getWorld();
+        return this.positions().mapToObj(key -> w.getBlockAt(BlockKeys.unpackX(key), BlockKeys.unpackY(key), BlockKeys.unpackZ(key)));
     }
 
     /**
@@ -184,6 +229,15 @@ public class Cuboid implements Iterable<Block>, Cloneable, ConfigurationSerializ
         return world;
     }
 
+    /**
+     * Get the name of the Cuboid's world, without resolving the World.
+     *
+     * @return The world name
+     */
+    public String getWorldName() {
+        return this.worldName;
+    }
+
     /**
      * Get the size of this Cuboid along the X axis
      *
@@ -370,6 +424,18 @@ public class Cuboid implements Iterable<Block>, Cloneable, ConfigurationSerializ
         return x >= this.x1 && x <= this.x2 && y >= this.y1 && y <= this.y2 && z >= this.z1 && z <= this.z2;
     }
 
+    /**
+     * Return true if the column at (x,z) is contained within this Cuboid, ignoring Y.
+     *
+     * @param x - The X co-ordinate
+     * @param z - The Z co-ordinate
+     * @return true if the given column is within this Cuboid, false otherwise
+     */
+    @Override
+    public boolean containsColumn(int x, int z) {
+        return x >= this.x1 && x <= this.x2 && z >= this.z1 && z <= this.z2;
+    }
+
     /**
      * Check if the given Block is contained within this Cuboid.
      *
@@ -417,6 +483,37 @@ public class Cuboid implements Iterable<Block>, Cloneable, ConfigurationSerializ
         return n > 0 ? (byte) (total / n) : 0;
     }
 
+    /**
+     * Get the average raw light level of all empty (air) blocks in the loaded chunks of the Cuboid, off the main thread.
+     * Each block counts the brighter of its stored sky and block light; unlike {@link #getAverageLightLevel()},
+     * sky light is not darkened by the time of day or weather.  Completes with 0 if there are no empty blocks.
+     * Must be called on the main thread; only the snapshot capture runs there (see {@link #scan()}).
+     *
+     * @param executor - The executor that runs the scan
+     * @return A future completed with the average raw light level
+     */
+    public CompletableFuture<Byte> getAverageRawLightLevelAsync(Executor executor) {
+        return this.scan().collectAsync(() -> new long[2], Cuboid::accumulateLight, Cuboid::combineLight, executor)
+                .thenApply(Cuboid::averageLightLevel);
+    }
+
+    // Raw light of an air block: the brighter of stored sky and block light
+    private static void accumulateLight(long[] sum, ChunkSnapshot snapshot, int x, int y, int z) {
+        int lx = x & 0xf, lz = z & 0xf;
+        if (!snapshot.getBlockType(lx, y, lz).isAir()) return;
+        sum[0] += Math.max(snapshot.getBlockSkyLight(lx, y, lz), snapshot.getBlockEmittedLight(lx, y, lz));
+        sum[1]++;
+    }
+
+    private static void combineLight(long[] into, long[] other) {
+        into[0] += other[0];
+        into[1] += other[1];
+    }
+
+    private static byte averageLightLevel(long[] sum) {
+        return sum[1] > 0 ? (byte) (sum[0] / sum[1]) : 0;
+    }
+
     /**
      * Contract the Cuboid, returning a Cuboid with any air around the edges removed, just large enough to include all non-air blocks.
      *
@@ -530,6 +627,44 @@ public class Cuboid implements Iterable<Block>, Cloneable, ConfigurationSerializ
         return res;
     }
 
+    /**
+     * Capture a ChunkSnapshot of every loaded chunk this Cuboid touches, for bulk scanning off the main thread.
+     * Must be called on the main thread; unloaded chunks are skipped and never loaded.
+     * The Y range is clamped to the world height.
+     *
+     * @return A CuboidScan over the captured snapshots, in chunk order
+     */
+    public CuboidScan scan() {
+        return this.scan(false);
+    }
+
+    /**
+     * Capture a ChunkSnapshot of the chunks this Cuboid touches, for bulk scanning off the main thread.
+     * Must be called on the main thread.
+     *
+     * @param loadChunks - Whether unloaded chunks are loaded (synchronously, as with {@link #getChunks()}) or skipped
+     * @return A CuboidScan over the captured snapshots, in chunk order
+     */
+    public CuboidScan scan(boolean loadChunks) {
+        World w = this.getWorld();
+        int cx1 = this.getLowerX() >> 4, cx2 = this.getUpperX() >> 4;
+        int cz1 = this.getLowerZ() >> 4, cz2 = this.getUpperZ() >> 4;
+
+        ChunkSnapshot[] snapshots = new ChunkSnapshot[(cx2 - cx1 + 1) * (cz2 - cz1 + 1)];
+        int i = 0;
+        for (int cz = cz1; cz <= cz2; cz++) {
+            for (int cx = cx1; cx <= cx2; cx++) {
+                if (!loadChunks && !w.isChunkLoaded(cx, cz)) continue;
+                snapshots[i++] = w.getChunkAt(cx, cz).getChunkSnapshot(false, false, false);
+            }
+        }
+        if (i < snapshots.length) snapshots = Arrays.copyOf(snapshots, i);
+
+        int minY = Math.max(this.getLowerY(), w.getMinHeight());
+        int maxY = Math.min(this.getUpperY(), w.getMaxHeight() - 1);
+        return new CuboidScan(snapshots, this.getLowerX(), minY, this.getLowerZ(), this.getUpperX(), maxY, this.getUpperZ());
+    }
+
     public Iterator<Block> iterator() {
         return new CuboidIterator(this.getWorld(), this.x1, this.y1, this.z1, this.x2, this.y2, this.z2);
     }
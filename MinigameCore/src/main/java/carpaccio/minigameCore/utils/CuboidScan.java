@@ -0,0 +1,166 @@
+package carpaccio.minigameCore.utils;
+
+import org.bukkit.ChunkSnapshot;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Varredura em massa de um Cuboid sobre ChunkSnapshots
+ * Os snapshots são capturados uma vez na thread principal (Cuboid.scan, só chunks carregados por padrão);
+ * a varredura em si pode rodar em qualquer thread, chunk por chunk, e em paralelo entre chunks
+ *
+ * Dentro de cada chunk a ordem é Y, Z, X (mesma ordem de armazenamento das seções do chunk)
+ */
+public final class CuboidScan {
+
+    /** Recebe cada bloco da varredura; x/y/z são coordenadas do mundo (use x & 15 / z & 15 no snapshot) */
+    @FunctionalInterface
+    public interface BlockVisitor {
+        void visit(ChunkSnapshot snapshot, int x, int y, int z);
+    }
+
+    /** Acumula um bloco em um resultado parcial mutável (um por chunk ou por thread) */
+    @FunctionalInterface
+    public interface BlockAccumulator<A> {
+        void accept(A result, ChunkSnapshot snapshot, int x, int y, int z);
+    }
+
+    /** Transforma um chunk inteiro em um resultado (recebe os limites da interseção com o Cuboid) */
+    @FunctionalInterface
+    public interface ChunkFunction<R> {
+        R apply(ChunkSnapshot snapshot, int minX, int minY, int minZ, int maxX, int maxY, int maxZ);
+    }
+
+    private final ChunkSnapshot[] snapshots;
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int maxX;
+    private final int maxY;
+    private final int maxZ;
+
+    // ==========================================
+    // CONSTRUTOR
+    // ==========================================
+
+    /**
+     * @param snapshots Snapshots dos chunks capturados, em ordem de chunk (Z e depois X)
+     * @param minY      Menor Y já limitado à altura do mundo
+     * @param maxY      Maior Y já limitado à altura do mundo
+     */
+    CuboidScan(ChunkSnapshot[] snapshots, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        this.snapshots = snapshots;
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+    }
+
+    // ==========================================
+    // GETTERS
+    // ==========================================
+
+    /** Quantidade de chunks capturados */
+    public int getChunkCount() { return snapshots.length; }
+
+    /** Quantidade de blocos varridos nos chunks capturados (Y já limitado à altura do mundo) */
+    public long getBlockCount() {
+        if (minY > maxY) return 0;
+        long columns = 0;
+        for (ChunkSnapshot snapshot : snapshots) {
+            int baseX = snapshot.getX() << 4;
+            int baseZ = snapshot.getZ() << 4;
+            columns += (long) (Math.min(maxX, baseX + 15) - Math.max(minX, baseX) + 1)
+                    * (Math.min(maxZ, baseZ + 15) - Math.max(minZ, baseZ) + 1);
+        }
+        return columns * (maxY - minY + 1);
+    }
+
+    // ==========================================
+    // VARREDURA
+    // ==========================================
+
+    /** Visita todos os blocos em ordem de chunk, na thread atual */
+    public void forEach(BlockVisitor visitor) {
+        for (ChunkSnapshot snapshot : snapshots) {
+            scanChunk(snapshot, visitor);
+        }
+    }
+
+    /** Redução mutável na thread atual: todos os chunks acumulam em um único resultado */
+    public <A> A collect(Supplier<A> supplier, BlockAccumulator<A> accumulator) {
+        return collectRange(0, snapshots.length, supplier, accumulator);
+    }
+
+    /**
+     * Redução mutável em paralelo no executor informado, sem bloquear a thread atual
+     * Os chunks são divididos em uma fatia por núcleo; cada fatia acumula em um resultado próprio
+     * e os parciais são combinados no final (combiner junta o segundo no primeiro)
+     */
+    public <A> CompletableFuture<A> collectAsync(Supplier<A> supplier, BlockAccumulator<A> accumulator,
+                                                 BiConsumer<A, A> combiner, Executor executor) {
+        int parts = Math.max(1, Math.min(snapshots.length, Runtime.getRuntime().availableProcessors()));
+        CompletableFuture<A> result = null;
+        for (int part = 0; part < parts; part++) {
+            int from = (int) ((long) snapshots.length * part / parts);
+            int to = (int) ((long) snapshots.length * (part + 1) / parts);
+            CompletableFuture<A> partial = CompletableFuture.supplyAsync(() -> collectRange(from, to, supplier, accumulator), executor);
+            result = result == null ? partial : result.thenCombine(partial, (into, other) -> {
+                combiner.accept(into, other);
+                return into;
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Stream preguiçoso de resultados por chunk: cada chunk só é processado quando o stream chega nele
+     * Use parallel() para dividir entre núcleos ou findFirst/anyMatch para parar cedo
+     */
+    public <R> Stream<R> mapChunks(ChunkFunction<R> function) {
+        if (minY > maxY) return Stream.empty();
+        return Arrays.stream(snapshots).map(snapshot -> {
+            int baseX = snapshot.getX() << 4;
+            int baseZ = snapshot.getZ() << 4;
+            return function.apply(snapshot,
+                    Math.max(minX, baseX), minY, Math.max(minZ, baseZ),
+                    Math.min(maxX, baseX + 15), maxY, Math.min(maxZ, baseZ + 15));
+        });
+    }
+
+    // ==========================================
+    // PRIVADAS
+    // ==========================================
+
+    private <A> A collectRange(int from, int to, Supplier<A> supplier, BlockAccumulator<A> accumulator) {
+        A result = supplier.get();
+        for (int i = from; i < to; i++) {
+            scanChunk(snapshots[i], (snapshot, x, y, z) -> accumulator.accept(result, snapshot, x, y, z));
+        }
+        return result;
+    }
+
+    private void scanChunk(ChunkSnapshot snapshot, BlockVisitor visitor) {
+        int baseX = snapshot.getX() << 4;
+        int baseZ = snapshot.getZ() << 4;
+        int fromX = Math.max(minX, baseX);
+        int toX = Math.min(maxX, baseX + 15);
+        int fromZ = Math.max(minZ, baseZ);
+        int toZ = Math.min(maxZ, baseZ + 15);
+
+        for (int y = minY; y <= maxY; y++) {
+            for (int z = fromZ; z <= toZ; z++) {
+                for (int x = fromX; x <= toX; x++) {
+                    visitor.visit(snapshot, x, y, z);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package carpaccio.minigameCore.utils;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * Spliterator preguiçoso das posições de um Cuboid, empacotadas com BlockKeys (nenhum Block é criado)
+ * Percorre chunk por chunk (Z e depois X) e, dentro do chunk, na ordem Y, Z, X
+ * Divide sempre em fronteiras de chunk, então cada parte paralela fica com chunks inteiros
+ */
+public class CuboidSpliterator implements Spliterator.OfLong {
+
+    private final int minX, minY, minZ;
+    private final int maxX, maxY, maxZ;
+    private final int minChunkX, minChunkZ;
+    private final int chunksX;
+
+    // Faixa de chunks [chunk, endChunk) ainda não iniciados; o chunk em andamento fica nos cursores
+    private int chunk;
+    private final int endChunk;
+
+    // Chunk em andamento (fromX > toX quando nenhum); x > toX pede a próxima linha
+    private int fromX, toX, fromZ, toZ;
+    private int x, y, z;
+
+    private long remaining;
+
+    // ==========================================
+    // CONSTRUTOR
+    // ==========================================
+
+    public CuboidSpliterator(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        this(minX, minY, minZ, maxX, maxY, maxZ, 0,
+                ((maxX >> 4) - (minX >> 4) + 1) * ((maxZ >> 4) - (minZ >> 4) + 1));
+    }
+
+    private CuboidSpliterator(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int chunk, int endChunk) {
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+        this.minChunkX = minX >> 4;
+        this.minChunkZ = minZ >> 4;
+        this.chunksX = (maxX >> 4) - minChunkX + 1;
+        this.chunk = chunk;
+        this.endChunk = endChunk;
+        this.fromX = 1;
+        this.toX = 0;
+        this.x = 1;
+        this.remaining = minY > maxY ? 0 : countChunks(chunk, endChunk);
+    }
+
+    // ==========================================
+    // SPLITERATOR
+    // ==========================================
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        if (remaining == 0) return false;
+        if (x > toX && !nextRow()) return false;
+
+        action.accept(BlockKeys.pack(x++, y, z));
+        remaining--;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        while (remaining > 0) {
+            if (x > toX && !nextRow()) return;
+
+            int row = toX - x + 1;
+            for (; x <= toX; x++) {
+                action.accept(BlockKeys.pack(x, y, z));
+            }
+            remaining -= row;
+        }
+    }
+
+    /**
+     * Divide os chunks ainda não iniciados ao meio
+     * O prefixo devolvido leva o chunk em andamento e a primeira metade; esta parte segue da segunda metade
+     */
+    @Override
+    public Spliterator.OfLong trySplit() {
+        int pending = endChunk - chunk;
+        if (pending < 2 || remaining == 0) return null;
+
+        int mid = chunk + pending / 2;
+        CuboidSpliterator prefix = new CuboidSpliterator(minX, minY, minZ, maxX, maxY, maxZ, chunk, mid);
+        prefix.fromX = fromX;
+        prefix.toX = toX;
+        prefix.fromZ = fromZ;
+        prefix.toZ = toZ;
+        prefix.x = x;
+        prefix.y = y;
+        prefix.z = z;
+
+        long suffix = countChunks(mid, endChunk);
+        prefix.remaining = remaining - suffix;
+        remaining = suffix;
+
+        chunk = mid;
+        fromX = 1;
+        toX = 0;
+        x = 1;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | DISTINCT | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+
+    // ==========================================
+    // PRIVADAS
+    // ==========================================
+
+    /** Avança o cursor para a próxima linha X (ou para o próximo chunk) */
+    private boolean nextRow() {
+        if (fromX <= toX) {
+            x = fromX;
+            if (++z <= toZ) return true;
+            z = fromZ;
+            if (++y <= maxY) return true;
+        }
+        return nextChunk();
+    }
+
+    private boolean nextChunk() {
+        if (chunk >= endChunk) {
+            fromX = 1;
+            toX = 0;
+            x = 1;
+            return false;
+        }
+
+        int baseX = (minChunkX + chunk % chunksX) << 4;
+        int baseZ = (minChunkZ + chunk / chunksX) << 4;
+        chunk++;
+
+        fromX = Math.max(minX, baseX);
+        toX = Math.min(maxX, baseX + 15);
+        fromZ = Math.max(minZ, baseZ);
+        toZ = Math.min(maxZ, baseZ + 15);
+        x = fromX;
+        y = minY;
+        z = fromZ;
+        return true;
+    }
+
+    /** Quantidade de posições nos chunks [from, to) */
+    private long countChunks(int from, int to) {
+        long count = 0;
+        for (int i = from; i < to; i++) {
+            int baseX = (minChunkX + i % chunksX) << 4;
+            int baseZ = (minChunkZ + i / chunksX) << 4;
+            int width = Math.min(maxX, baseX + 15) - Math.max(minX, baseX) + 1;
+            int depth = Math.min(maxZ, baseZ + 15) - Math.max(minZ, baseZ) + 1;
+            count += (long) width * depth;
+        }
+        return count * (maxY - minY + 1);
+    }
+}
@@ -0,0 +1,55 @@
+package carpaccio.minigameCore.utils;
+
+/**
+ * Região cilíndrica vertical: círculo no plano X/Z entre dois Y
+ * Uma coluna pertence ao cilindro quando o centro do bloco está dentro do raio
+ */
+public class CylinderRegion implements Region {
+
+    private final String worldName;
+    private final double centerX;
+    private final double centerZ;
+    private final double radius;
+    private final int minY;
+    private final int maxY;
+
+    /**
+     * @param centerX Centro X (em blocos; use .5 para centralizar num bloco)
+     * @param centerZ Centro Z
+     * @param radius  Raio em blocos (positivo)
+     */
+    public CylinderRegion(String worldName, double centerX, double centerZ, double radius, int minY, int maxY) {
+        if (radius <= 0) throw new IllegalArgumentException("radius must be positive");
+        this.worldName = worldName;
+        this.centerX = centerX;
+        this.centerZ = centerZ;
+        this.radius = radius;
+        this.minY = Math.min(minY, maxY);
+        this.maxY = Math.max(minY, maxY);
+    }
+
+    public double getCenterX() { return centerX; }
+    public double getCenterZ() { return centerZ; }
+    public double getRadius() { return radius; }
+
+    @Override public String getWorldName() { return worldName; }
+    @Override public int getLowerX() { return (int) Math.floor(centerX - radius); }
+    @Override public int getLowerY() { return minY; }
+    @Override public int getLowerZ() { return (int) Math.floor(centerZ - radius); }
+    @Override public int getUpperX() { return (int) Math.floor(centerX + radius); }
+    @Override public int getUpperY() { return maxY; }
+    @Override public int getUpperZ() { return (int) Math.floor(centerZ + radius); }
+
+    @Override
+    public boolean containsColumn(int x, int z) {
+        double dx = x + 0.5 - centerX;
+        double dz = z + 0.5 - centerZ;
+        return dx * dx + dz * dz <= radius * radius;
+    }
+
+    @Override
+    public String toString() {
+        return "CylinderRegion{" + worldName + ", center=" + centerX + "," + centerZ + ", radius=" + radius
+                + ", y=" + minY + ".." + maxY + "}";
+    }
+}
@@ -0,0 +1,81 @@
+package carpaccio.minigameCore.utils;
+
+/**
+ * Região poligonal: polígono no plano X/Z (vértices em coordenadas de bloco) entre dois Y
+ * Uma coluna pertence ao polígono quando o centro do bloco está dentro (regra par-ímpar)
+ */
+public class PolygonRegion implements Region {
+
+    private final String worldName;
+    private final int[] xs;
+    private final int[] zs;
+    private final int minY;
+    private final int maxY;
+
+    private final int minX;
+    private final int minZ;
+    private final int maxX;
+    private final int maxZ;
+
+    /**
+     * @param xs X de cada vértice
+     * @param zs Z de cada vértice (mesmo tamanho de xs, pelo menos 3)
+     */
+    public PolygonRegion(String worldName, int[] xs, int[] zs, int minY, int maxY) {
+        if (xs.length != zs.length) throw new IllegalArgumentException("xs and zs must have the same length");
+        if (xs.length < 3) throw new IllegalArgumentException("a polygon needs at least 3 points");
+
+        this.worldName = worldName;
+        this.xs = xs.clone();
+        this.zs = zs.clone();
+        this.minY = Math.min(minY, maxY);
+        this.maxY = Math.max(minY, maxY);
+
+        int lowX = Integer.MAX_VALUE, lowZ = Integer.MAX_VALUE;
+        int highX = Integer.MIN_VALUE, highZ = Integer.MIN_VALUE;
+        for (int i = 0; i < xs.length; i++) {
+            lowX = Math.min(lowX, xs[i]);
+            lowZ = Math.min(lowZ, zs[i]);
+            highX = Math.max(highX, xs[i]);
+            highZ = Math.max(highZ, zs[i]);
+        }
+        this.minX = lowX;
+        this.minZ = lowZ;
+        this.maxX = highX;
+        this.maxZ = highZ;
+    }
+
+    public int getPointCount() { return xs.length; }
+    public int getPointX(int i) { return xs[i]; }
+    public int getPointZ(int i) { return zs[i]; }
+
+    @Override public String getWorldName() { return worldName; }
+    @Override public int getLowerX() { return minX; }
+    @Override public int getLowerY() { return minY; }
+    @Override public int getLowerZ() { return minZ; }
+    @Override public int getUpperX() { return maxX; }
+    @Override public int getUpperY() { return maxY; }
+    @Override public int getUpperZ() { return maxZ; }
+
+    @Override
+    public boolean containsColumn(int x, int z) {
+        if (x < minX || x > maxX || z < minZ || z > maxZ) return false;
+
+        // Raio na direção +X a partir do centro do bloco; conta as arestas cruzadas
+        double px = x + 0.5;
+        double pz = z + 0.5;
+        boolean inside = false;
+        for (int i = 0, j = xs.length - 1; i < xs.length; j = i++) {
+            if ((zs[i] > pz) != (zs[j] > pz)) {
+                double crossX = xs[i] + (pz - zs[i]) * (xs[j] - xs[i]) / (double) (zs[j] - zs[i]);
+                if (px < crossX) inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    @Override
+    public String toString() {
+        return "PolygonRegion{" + worldName + ", points=" + xs.length + ", y=" + minY + ".." + maxY + "}";
+    }
+}
@@ -0,0 +1,25 @@
+package carpaccio.minigameCore.utils;
+
+/**
+ * Forma de uma região de spawn: caixa envolvente inteira e teste de coluna X/Z
+ * Toda forma é prismática (a mesma coluna vale para qualquer Y entre os limites)
+ */
+public interface Region {
+
+    String getWorldName();
+
+    int getLowerX();
+    int getLowerY();
+    int getLowerZ();
+    int getUpperX();
+    int getUpperY();
+    int getUpperZ();
+
+    /** Verifica se a coluna X/Z pertence à região (sem olhar o Y) */
+    boolean containsColumn(int x, int z);
+
+    /** Verifica se o bloco pertence à região (coluna e limites de Y) */
+    default boolean contains(int x, int y, int z) {
+        return y >= getLowerY() && y <= getUpperY() && containsColumn(x, z);
+    }
+}
@@ -0,0 +1,224 @@
+package carpaccio.minigameCore.utils;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Conjunto de UUIDs sem objetos por entrada
+ * Os dois longs de cada UUID ficam em arrays densos (posições 0 até size - 1, para iterar sem alocar)
+ * e uma tabela de endereçamento aberto (int[]) aponta para essas posições
+ * A remoção troca o elemento removido pelo último, então as posições mudam ao remover
+ */
+public class UuidSet {
+
+    private static final int EMPTY = 0;
+
+    private long[] most;
+    private long[] least;
+    private int size;
+
+    // Tabela de endereçamento aberto com sondagem linear: posição densa + 1 (0 = vazio)
+    private int[] table;
+    private int mask;
+
+    private final View view;
+
+    // ==========================================
+    // CONSTRUTOR
+    // ==========================================
+
+    public UuidSet() {
+        this(16);
+    }
+
+    public UuidSet(int expectedSize) {
+        int capacity = Math.max(4, expectedSize);
+        this.most = new long[capacity];
+        this.least = new long[capacity];
+        this.size = 0;
+        this.table = new int[tableSizeFor(capacity * 2)];
+        this.mask = table.length - 1;
+        this.view = new View();
+    }
+
+    // ==========================================
+    // GETTERS
+    // ==========================================
+
+    public int size() { return size; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    /** Bits mais significativos do UUID na posição informada (0 até size - 1) */
+    public long getMostSignificantBits(int index) { return most[index]; }
+
+    /** Bits menos significativos do UUID na posição informada (0 até size - 1) */
+    public long getLeastSignificantBits(int index) { return least[index]; }
+
+    /** UUID na posição informada (cria um objeto UUID; para iterar sem alocar use os getters de bits) */
+    public UUID get(int index) {
+        return new UUID(most[index], least[index]);
+    }
+
+    /** Visão somente leitura deste conjunto (sempre a mesma instância, sem cópia) */
+    public View view() { return view; }
+
+    // ==========================================
+    // PRINCIPAIS
+    // ==========================================
+
+    public boolean contains(UUID id) {
+        return indexOf(id.getMostSignificantBits(), id.getLeastSignificantBits()) >= 0;
+    }
+
+    public int indexOf(UUID id) {
+        return indexOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+
+    /**
+     * Posição densa do UUID
+     * @return A posição, ou -1 se não estiver no conjunto
+     */
+    public int indexOf(long msb, long lsb) {
+        int slot = findSlot(msb, lsb);
+        return slot < 0 ? -1 : table[slot] - 1;
+    }
+
+    /**
+     * Adiciona o UUID na posição size() - 1
+     * @return true se foi adicionado, false se já estava no conjunto
+     */
+    public boolean add(UUID id) {
+        return add(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+
+    public boolean add(long msb, long lsb) {
+        if (findSlot(msb, lsb) >= 0) return false;
+
+        if (size == most.length) {
+            most = Arrays.copyOf(most, size * 2);
+            least = Arrays.copyOf(least, size * 2);
+        }
+        if ((size + 1) * 2 > table.length) rehash(table.length * 2);
+
+        most[size] = msb;
+        least[size] = lsb;
+        insertSlot(size);
+        size++;
+        return true;
+    }
+
+    /**
+     * Remove o UUID; o último elemento passa a ocupar a posição que ficou vaga
+     * @return A posição que ficou vaga, ou -1 se o UUID não estava no conjunto
+     */
+    public int remove(UUID id) {
+        return remove(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+
+    public int remove(long msb, long lsb) {
+        int slot = findSlot(msb, lsb);
+        if (slot < 0) return -1;
+
+        int index = table[slot] - 1;
+        deleteSlot(slot);
+
+        int last = --size;
+        if (index != last) {
+            table[findSlot(most[last], least[last])] = index + 1;
+            most[index] = most[last];
+            least[index] = least[last];
+        }
+        return index;
+    }
+
+    public void clear() {
+        Arrays.fill(table, EMPTY);
+        size = 0;
+    }
+
+    // ==========================================
+    // VISÃO SOMENTE LEITURA
+    // ==========================================
+
+    /**
+     * Acesso somente leitura ao conjunto, sem cópia
+     * Reflete as mudanças do conjunto; não guarde posições entre ticks
+     */
+    public class View {
+
+        private View() {
+        }
+
+        public int size() { return size; }
+
+        public boolean isEmpty() { return size == 0; }
+
+        public boolean contains(UUID id) { return UuidSet.this.contains(id); }
+
+        public long getMostSignificantBits(int index) { return most[index]; }
+
+        public long getLeastSignificantBits(int index) { return least[index]; }
+
+        public UUID get(int index) { return UuidSet.this.get(index); }
+    }
+
+    // ==========================================
+    // PRIVADAS
+    // ==========================================
+
+    private int findSlot(long msb, long lsb) {
+        int slot = hash(msb, lsb) & mask;
+        while (true) {
+            int entry = table[slot];
+            if (entry == EMPTY) return -1;
+
+            int index = entry - 1;
+            if (most[index] == msb && least[index] == lsb) return slot;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void insertSlot(int index) {
+        int slot = hash(most[index], least[index]) & mask;
+        while (table[slot] != EMPTY) slot = (slot + 1) & mask;
+        table[slot] = index + 1;
+    }
+
+    /** Remove o slot puxando para trás as entradas seguintes do mesmo grupo (sem marcadores de remoção) */
+    private void deleteSlot(int slot) {
+        int hole = slot;
+        int next = (hole + 1) & mask;
+
+        while (table[next] != EMPTY) {
+            int index = table[next] - 1;
+            int ideal = hash(most[index], least[index]) & mask;
+
+            // A entrada só pode ocupar o buraco se o seu slot ideal não estiver entre o buraco e ela
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                table[hole] = table[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        table[hole] = EMPTY;
+    }
+
+    private void rehash(int newLength) {
+        table = new int[newLength];
+        mask = newLength - 1;
+        for (int i = 0; i < size; i++) insertSlot(i);
+    }
+
+    private static int hash(long msb, long lsb) {
+        long h = msb ^ lsb;
+        h *= 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int tableSizeFor(int n) {
+        int size = 1;
+        while (size < n) size <<= 1;
+        return size;
+    }
+}
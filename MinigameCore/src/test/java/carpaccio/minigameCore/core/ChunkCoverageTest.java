@@ -0,0 +1,76 @@
+package carpaccio.minigameCore.core;
+
+import carpaccio.minigameCore.utils.CylinderRegion;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChunkCoverageTest {
+
+    private static final int SAMPLES = 400_000;
+
+    @Test
+    void loadedColumnsAreSampledUniformly() {
+        RegionGeometry geometry = new RegionGeometry(new CylinderRegion("world", 0.5, 0.5, 40, 0, 10));
+        ChunkCoverage coverage = new ChunkCoverage(geometry);
+
+        // Metade leste carregada: inclui chunks de borda com poucas colunas da forma
+        Map<Long, Integer> columnsPerChunk = new HashMap<>();
+        int loadedColumns = 0;
+        for (int x = geometry.getMinX(); x <= geometry.getMaxX(); x++) {
+            for (int z = geometry.getMinZ(); z <= geometry.getMaxZ(); z++) {
+                if (x < 0 || !geometry.containsColumn(x, z)) continue;
+                coverage.setLoaded(x >> 4, z >> 4, true);
+                columnsPerChunk.merge(chunkKey(x >> 4, z >> 4), 1, Integer::sum);
+                loadedColumns++;
+            }
+        }
+
+        Random random = new Random(42);
+        Map<Long, Integer> hits = new HashMap<>();
+        int failures = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            long column = coverage.randomLoadedColumn(random, geometry);
+            if (column == RegionGeometry.NO_COLUMN) {
+                failures++;
+                continue;
+            }
+            int x = RegionGeometry.columnX(column);
+            int z = RegionGeometry.columnZ(column);
+            assertTrue(geometry.containsColumn(x, z));
+            assertTrue(coverage.isLoaded(x >> 4, z >> 4));
+            hits.merge(chunkKey(x >> 4, z >> 4), 1, Integer::sum);
+        }
+        assertEquals(0, failures);
+
+        // Cada chunk recebe sorteios na proporção das suas colunas (chunks de borda não são favorecidos)
+        for (Map.Entry<Long, Integer> entry : columnsPerChunk.entrySet()) {
+            double expected = (double) SAMPLES * entry.getValue() / loadedColumns;
+            int actual = hits.getOrDefault(entry.getKey(), 0);
+            double tolerance = 5 * Math.sqrt(expected) + 1;
+            assertTrue(Math.abs(actual - expected) <= tolerance,
+                    "chunk " + entry.getKey() + ": esperado " + expected + ", obtido " + actual);
+        }
+    }
+
+    @Test
+    void nothingLoadedGivesNoColumn() {
+        RegionGeometry geometry = new RegionGeometry(new CylinderRegion("world", 0, 0, 20, 0, 10));
+        ChunkCoverage coverage = new ChunkCoverage(geometry);
+
+        assertEquals(RegionGeometry.NO_COLUMN, coverage.randomLoadedColumn(new Random(1), geometry));
+
+        coverage.setLoaded(0, 0, true);
+        assertNotEquals(RegionGeometry.NO_COLUMN, coverage.randomLoadedColumn(new Random(1), geometry));
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,91 @@
+package carpaccio.minigameCore.core;
+
+import carpaccio.minigameCore.utils.CylinderRegion;
+import carpaccio.minigameCore.utils.Cuboid;
+import carpaccio.minigameCore.utils.PolygonRegion;
+import org.bukkit.World;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * O caminho quente da RegionGeometry (contenção e sorteio) não pode alocar
+ * Mede os bytes alocados pela thread em volta de loops longos; uma alocação por chamada daria megabytes
+ */
+class RegionGeometryAllocationTest {
+
+    private static final int ITERATIONS = 1_000_000;
+
+    // Folga para alocações da própria medição (independente do número de iterações)
+    private static final long SLACK_BYTES = 16 * 1024;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    @BeforeAll
+    static void setUp() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "JVM sem contagem de alocação por thread");
+        threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "JVM sem contagem de alocação por thread");
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    // ==========================================
+    // TESTES
+    // ==========================================
+
+    @Test
+    void cuboidDoesNotAllocate() {
+        World world = TestWorlds.named("world");
+        assertNoAllocation(new RegionGeometry(new Cuboid(world, -100, 0, -100, 100, 64, 100)));
+    }
+
+    @Test
+    void polygonDoesNotAllocate() {
+        int[] xs = {0, 120, 120, 80, 80, 0};
+        int[] zs = {0, 0, 40, 40, 120, 120};
+        assertNoAllocation(new RegionGeometry(new PolygonRegion("world", xs, zs, 0, 64)));
+    }
+
+    @Test
+    void cylinderDoesNotAllocate() {
+        assertNoAllocation(new RegionGeometry(new CylinderRegion("world", 0, 0, 90, 0, 64)));
+    }
+
+    // ==========================================
+    // AUXILIARES
+    // ==========================================
+
+    private static void assertNoAllocation(RegionGeometry geometry) {
+        // Aquece duas vezes: a primeira passada compila, a segunda confirma o código já compilado
+        run(geometry, new Random(1));
+        run(geometry, new Random(2));
+
+        Random random = new Random(3);
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        long sink = run(geometry, random);
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        assertTrue(sink != 0);
+        assertTrue(allocated < SLACK_BYTES, "alocou " + allocated + " bytes em " + ITERATIONS + " iterações");
+    }
+
+    private static long run(RegionGeometry geometry, Random random) {
+        int spanX = geometry.getSizeX() + 32;
+        int spanZ = geometry.getSizeZ() + 32;
+        long sink = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            int x = geometry.getMinX() - 16 + random.nextInt(spanX);
+            int z = geometry.getMinZ() - 16 + random.nextInt(spanZ);
+            if (geometry.containsColumn(x, z)) sink++;
+            sink += geometry.randomColumn(random);
+        }
+        return sink;
+    }
+}
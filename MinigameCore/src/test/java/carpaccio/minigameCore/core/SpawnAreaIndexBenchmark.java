@@ -0,0 +1,162 @@
+package carpaccio.minigameCore.core;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SpawnAreaIndex com 10 mil áreas contra a varredura linear de todas as áreas (o que existia antes do índice)
+ * Rode com main() (ou o plugin JMH da IDE)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class SpawnAreaIndexBenchmark {
+
+    private static final int AREAS = 10_000;
+    private static final int WORLD_SIZE = 40_000;
+    private static final int QUERIES = 1024;
+
+    // Referência forte: Location guarda o mundo só por WeakReference
+    private World world;
+    private SpawnAreaIndex index;
+    private List<SpawnArea> areas;
+    private int[] queryX;
+    private int[] queryZ;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(11);
+        world = TestWorlds.named("world");
+        index = new SpawnAreaIndex();
+        areas = new ArrayList<>(AREAS);
+
+        for (int i = 0; i < AREAS; i++) {
+            int x = random.nextInt(WORLD_SIZE) - WORLD_SIZE / 2;
+            int z = random.nextInt(WORLD_SIZE) - WORLD_SIZE / 2;
+            int size = 8 + random.nextInt(56);
+            SpawnArea area = new SpawnArea("a" + i,
+                    new Location(world, x, 0, z), new Location(world, x + size, 100, z + size));
+            areas.add(area);
+            index.add(area);
+        }
+
+        queryX = new int[QUERIES];
+        queryZ = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queryX[i] = random.nextInt(WORLD_SIZE) - WORLD_SIZE / 2;
+            queryZ[i] = random.nextInt(WORLD_SIZE) - WORLD_SIZE / 2;
+        }
+    }
+
+    // ==========================================
+    // CONTENÇÃO DE PONTO
+    // ==========================================
+
+    @Benchmark
+    public int areasAtIndex() {
+        int q = next();
+        return index.getAreasAt("world", queryX[q], queryZ[q]).size();
+    }
+
+    @Benchmark
+    public int areasAtLinear() {
+        int q = next();
+        int count = 0;
+        for (SpawnArea area : areas) {
+            if (area.getGeometry().containsColumn(queryX[q], queryZ[q])) count++;
+        }
+        return count;
+    }
+
+    // ==========================================
+    // SOBREPOSIÇÃO (retângulo 128x128)
+    // ==========================================
+
+    @Benchmark
+    public int overlappingIndex() {
+        int q = next();
+        return index.getOverlapping("world", queryX[q], queryZ[q], queryX[q] + 127, queryZ[q] + 127).size();
+    }
+
+    @Benchmark
+    public int overlappingLinear() {
+        int q = next();
+        int minX = queryX[q];
+        int minZ = queryZ[q];
+        int count = 0;
+        for (SpawnArea area : areas) {
+            RegionGeometry g = area.getGeometry();
+            if (g.getMinX() <= minX + 127 && g.getMaxX() >= minX && g.getMinZ() <= minZ + 127 && g.getMaxZ() >= minZ) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // ==========================================
+    // MAIS PRÓXIMA
+    // ==========================================
+
+    @Benchmark
+    public SpawnArea nearestIndex() {
+        int q = next();
+        return index.getNearest("world", queryX[q] + 0.5, queryZ[q] + 0.5, 512);
+    }
+
+    @Benchmark
+    public SpawnArea nearestIndexUnbounded() {
+        int q = next();
+        return index.getNearest("world", queryX[q] + 0.5, queryZ[q] + 0.5, Double.POSITIVE_INFINITY);
+    }
+
+    @Benchmark
+    public SpawnArea nearestLinear() {
+        int q = next();
+        double x = queryX[q] + 0.5;
+        double z = queryZ[q] + 0.5;
+        SpawnArea best = null;
+        double bestDistSq = 512.0 * 512.0;
+        for (SpawnArea area : areas) {
+            RegionGeometry g = area.getGeometry();
+            double dx = Math.max(0, Math.max(g.getMinX() - x, x - (g.getMaxX() + 1)));
+            double dz = Math.max(0, Math.max(g.getMinZ() - z, z - (g.getMaxZ() + 1)));
+            double distSq = dx * dx + dz * dz;
+            if (distSq <= bestDistSq) {
+                best = area;
+                bestDistSq = distSq;
+            }
+        }
+        return best;
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (QUERIES - 1);
+        return cursor;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SpawnAreaIndexBenchmark.class.getSimpleName()).build()).run();
+    }
+}
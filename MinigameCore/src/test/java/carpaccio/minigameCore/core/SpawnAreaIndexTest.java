@@ -0,0 +1,176 @@
+package carpaccio.minigameCore.core;
+
+import carpaccio.minigameCore.utils.PolygonRegion;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SpawnAreaIndexTest {
+
+    private World world;
+    private SpawnAreaIndex index;
+    private List<SpawnArea> areas;
+
+    @BeforeEach
+    void setUp() {
+        world = TestWorlds.named("world");
+        index = new SpawnAreaIndex();
+        areas = new ArrayList<>();
+    }
+
+    // ==========================================
+    // CONTENÇÃO / SOBREPOSIÇÃO
+    // ==========================================
+
+    @Test
+    void areasAtMatchesLinearScan() {
+        fill(new Random(1), 600);
+        Random random = new Random(2);
+
+        for (int i = 0; i < 5000; i++) {
+            int x = random.nextInt(8000) - 4000;
+            int z = random.nextInt(8000) - 4000;
+
+            Set<SpawnArea> expected = identitySet();
+            for (SpawnArea area : areas) {
+                if (area.getGeometry().containsColumn(x, z)) expected.add(area);
+            }
+            Set<SpawnArea> actual = identitySet();
+            actual.addAll(index.getAreasAt("world", x, z));
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void overlappingMatchesLinearScan() {
+        fill(new Random(3), 600);
+        Random random = new Random(4);
+
+        for (int i = 0; i < 500; i++) {
+            int minX = random.nextInt(8000) - 4000;
+            int minZ = random.nextInt(8000) - 4000;
+            int maxX = minX + random.nextInt(i % 2 == 0 ? 64 : 2000);
+            int maxZ = minZ + random.nextInt(i % 2 == 0 ? 64 : 2000);
+
+            Set<SpawnArea> expected = identitySet();
+            for (SpawnArea area : areas) {
+                RegionGeometry g = area.getGeometry();
+                if (g.getMinX() <= maxX && g.getMaxX() >= minX && g.getMinZ() <= maxZ && g.getMaxZ() >= minZ) {
+                    expected.add(area);
+                }
+            }
+            Set<SpawnArea> actual = identitySet();
+            actual.addAll(index.getOverlapping("world", minX, minZ, maxX, maxZ));
+            assertEquals(expected, actual);
+        }
+    }
+
+    // ==========================================
+    // MAIS PRÓXIMA
+    // ==========================================
+
+    @Test
+    void nearestMatchesLinearScanForAnyDistance() {
+        fill(new Random(5), 600);
+        Random random = new Random(6);
+        double[] distances = {0, 40, 700, Double.MAX_VALUE, Double.POSITIVE_INFINITY};
+
+        for (int i = 0; i < 2000; i++) {
+            double x = random.nextDouble() * 12000 - 6000;
+            double z = random.nextDouble() * 12000 - 6000;
+            double maxDistance = distances[i % distances.length];
+
+            double expected = nearestDistanceSq(x, z);
+            SpawnArea actual = index.getNearest("world", x, z, maxDistance);
+            if (expected > maxDistance * maxDistance) {
+                assertNull(actual);
+            } else {
+                assertNotNull(actual);
+                assertEquals(expected, distanceSq(actual, x, z), 1e-6);
+            }
+        }
+    }
+
+    @Test
+    void nearestInsideBoundingBoxOfHollowShape() {
+        // "U": a caixa envolvente cobre o vão, que não tem nenhuma coluna da forma
+        SpawnArea hollow = area("u", -200, -200, 200, 200);
+        hollow.setRegion(new PolygonRegion("world",
+                new int[]{-200, 200, 200, 180, 180, -180, -180, -200},
+                new int[]{-200, -200, 200, 200, -180, -180, 200, 200}, 0, 100));
+        index.add(hollow);
+
+        // Outra área a 20 blocos do ponto, mais perto que as paredes do "U" porém mais longe que a caixa
+        SpawnArea other = area("other", 20, 0, 30, 10);
+        index.add(other);
+
+        assertSame(hollow, index.getNearest("world", 0.5, 0.5, Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void nearestFromFarAwayWithInfiniteDistance() {
+        SpawnArea only = area("a", 0, 0, 15, 15);
+        index.add(only);
+
+        assertNull(index.getNearest("other", 0, 0, Double.POSITIVE_INFINITY));
+        assertSame(only, index.getNearest("world", 1.0e9, -1.0e9, Double.POSITIVE_INFINITY));
+    }
+
+    // ==========================================
+    // PRIVADAS
+    // ==========================================
+
+    private void fill(Random random, int count) {
+        for (int i = 0; i < count; i++) {
+            int x = random.nextInt(8000) - 4000;
+            int z = random.nextInt(8000) - 4000;
+            int sizeX = 4 + random.nextInt(200);
+            int sizeZ = 4 + random.nextInt(200);
+            SpawnArea area = area("a" + i, x, z, x + sizeX, z + sizeZ);
+
+            // Parte das áreas vira um "L", deixando chunks da caixa sem colunas
+            if (i % 3 == 0) {
+                area.setRegion(new PolygonRegion("world",
+                        new int[]{x, x + sizeX, x + sizeX, x + sizeX / 4, x + sizeX / 4, x},
+                        new int[]{z, z, z + sizeZ / 4, z + sizeZ / 4, z + sizeZ, z + sizeZ}, 0, 100));
+            }
+            index.add(area);
+        }
+    }
+
+    private SpawnArea area(String name, int minX, int minZ, int maxX, int maxZ) {
+        SpawnArea area = new SpawnArea(name, new Location(world, minX, 0, minZ), new Location(world, maxX, 100, maxZ));
+        areas.add(area);
+        return area;
+    }
+
+    private double nearestDistanceSq(double x, double z) {
+        double best = Double.POSITIVE_INFINITY;
+        for (SpawnArea area : areas) best = Math.min(best, distanceSq(area, x, z));
+        return best;
+    }
+
+    private static double distanceSq(SpawnArea area, double x, double z) {
+        RegionGeometry g = area.getGeometry();
+        double dx = Math.max(0, Math.max(g.getMinX() - x, x - (g.getMaxX() + 1)));
+        double dz = Math.max(0, Math.max(g.getMinZ() - z, z - (g.getMaxZ() + 1)));
+        return dx * dx + dz * dz;
+    }
+
+    private static Set<SpawnArea> identitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -0,0 +1,216 @@
+package carpaccio.minigameCore.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpawnSchedulerTest {
+
+    private SpawnScheduler scheduler;
+    private List<Long> runs;
+
+    @BeforeEach
+    void setUp() {
+        Logger logger = Logger.getLogger("SpawnSchedulerTest");
+        logger.setUseParentHandlers(false);
+        scheduler = new SpawnScheduler(logger);
+        runs = new ArrayList<>();
+    }
+
+    // ==========================================
+    // AGENDAMENTO
+    // ==========================================
+
+    @Test
+    void scheduleRunsAfterDelayAndThenEveryInterval() {
+        scheduler.schedule("job", this::record, 3, 5);
+
+        advance(20);
+
+        assertEquals(List.of(3L, 8L, 13L, 18L), runs);
+        assertEquals(1, scheduler.getJobCount());
+    }
+
+    @Test
+    void zeroDelayRunsOnNextTick() {
+        scheduler.schedule("job", this::record, 0, 10);
+
+        advance(1);
+
+        assertEquals(List.of(1L), runs);
+    }
+
+    @Test
+    void scheduleOnceRunsOnceAndReleasesJob() {
+        SpawnScheduler.ScheduledJob job = scheduler.scheduleOnce("once", this::record, 4);
+        assertTrue(job.isOneShot());
+        assertEquals(1, scheduler.getJobCount());
+
+        advance(300);
+
+        assertEquals(List.of(4L), runs);
+        assertTrue(job.isCancelled());
+        assertEquals(0, scheduler.getJobCount());
+    }
+
+    @Test
+    void delayLongerThanWheelWaitsFullTurns() {
+        scheduler.scheduleOnce("far", this::record, 300);
+
+        advance(299);
+        assertTrue(runs.isEmpty());
+
+        advance(1);
+        assertEquals(List.of(300L), runs);
+    }
+
+    // ==========================================
+    // CANCELAMENTO
+    // ==========================================
+
+    @Test
+    void cancelIsLazyButNeverRuns() {
+        SpawnScheduler.ScheduledJob job = scheduler.schedule("job", this::record, 5, 5);
+
+        scheduler.cancel(job);
+        assertEquals(0, scheduler.getJobCount());
+        assertTrue(scheduler.getWorkForTick(5).isEmpty());
+
+        // Cancelar de novo não pode descontar duas vezes
+        scheduler.cancel(job);
+        assertEquals(0, scheduler.getJobCount());
+
+        advance(20);
+        assertTrue(runs.isEmpty());
+    }
+
+    @Test
+    void cancelFromInsideTaskStopsRepetition() {
+        SpawnScheduler.ScheduledJob[] handle = new SpawnScheduler.ScheduledJob[1];
+        handle[0] = scheduler.schedule("self", () -> {
+            record();
+            scheduler.cancel(handle[0]);
+        }, 1, 1);
+
+        advance(5);
+
+        assertEquals(List.of(1L), runs);
+        assertEquals(0, scheduler.getJobCount());
+    }
+
+    // ==========================================
+    // REAGENDAMENTO
+    // ==========================================
+
+    @Test
+    void rescheduleToShorterIntervalBringsNextRunForward() {
+        SpawnScheduler.ScheduledJob job = scheduler.schedule("job", this::record, 100, 100);
+
+        advance(2);
+        scheduler.reschedule(job, 5);
+
+        assertEquals(7, job.getNextTick());
+        advance(15);
+        assertEquals(List.of(7L, 12L, 17L), runs);
+    }
+
+    @Test
+    void rescheduleToLongerIntervalKeepsPendingRun() {
+        SpawnScheduler.ScheduledJob job = scheduler.schedule("job", this::record, 5, 5);
+
+        scheduler.reschedule(job, 50);
+
+        assertEquals(5, job.getNextTick());
+        advance(60);
+        assertEquals(List.of(5L, 55L), runs);
+    }
+
+    @Test
+    void rescheduleIgnoresOneShotAndCancelledJobs() {
+        SpawnScheduler.ScheduledJob once = scheduler.scheduleOnce("once", this::record, 10);
+        SpawnScheduler.ScheduledJob cancelled = scheduler.schedule("gone", this::record, 10, 10);
+        scheduler.cancel(cancelled);
+
+        scheduler.reschedule(once, 1);
+        scheduler.reschedule(cancelled, 1);
+
+        assertEquals(10, once.getNextTick());
+        assertTrue(once.isOneShot());
+        advance(10);
+        assertEquals(List.of(10L), runs);
+    }
+
+    // ==========================================
+    // TROCA DE SLOT
+    // ==========================================
+
+    @Test
+    void jobInsertedIntoCurrentSlotDuringTickWaitsFullTurn() {
+        // 256 ticks à frente cai no mesmo slot que está sendo executado
+        scheduler.scheduleOnce("outer", () -> {
+            record();
+            scheduler.scheduleOnce("inner", this::record, 256);
+        }, 1);
+
+        advance(1);
+        assertEquals(List.of(1L), runs);
+
+        advance(255);
+        assertEquals(List.of(1L), runs);
+
+        advance(1);
+        assertEquals(List.of(1L, 257L), runs);
+    }
+
+    @Test
+    void intervalOfWheelSizeReusesSameSlot() {
+        scheduler.schedule("wheel", this::record, 1, 256);
+
+        advance(600);
+
+        assertEquals(List.of(1L, 257L, 513L), runs);
+    }
+
+    @Test
+    void failingTaskDoesNotStopOtherJobs() {
+        scheduler.schedule("boom", () -> { throw new IllegalStateException("falha"); }, 1, 1);
+        scheduler.schedule("ok", this::record, 1, 1);
+
+        advance(3);
+
+        assertEquals(List.of(1L, 2L, 3L), runs);
+        assertEquals(2, scheduler.getJobCount());
+    }
+
+    @Test
+    void clearDropsEverything() {
+        SpawnScheduler.ScheduledJob job = scheduler.schedule("job", this::record, 1, 1);
+
+        scheduler.clear();
+
+        assertEquals(0, scheduler.getJobCount());
+        assertTrue(job.isCancelled());
+        advance(5);
+        assertTrue(runs.isEmpty());
+    }
+
+    // ==========================================
+    // PRIVADAS
+    // ==========================================
+
+    private void record() {
+        runs.add(scheduler.getCurrentTick());
+    }
+
+    private void advance(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            scheduler.tick();
+        }
+    }
+}
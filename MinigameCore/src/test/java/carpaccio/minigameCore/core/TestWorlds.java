@@ -0,0 +1,31 @@
+package carpaccio.minigameCore.core;
+
+import org.bukkit.World;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Mundos falsos para testes fora do servidor: só o nome (e identidade) é implementado
+ */
+final class TestWorlds {
+
+    private TestWorlds() {}
+
+    static World named(String name) {
+        return (World) Proxy.newProxyInstance(World.class.getClassLoader(), new Class<?>[]{World.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getName":
+                            return name;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "World[" + name + "]";
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
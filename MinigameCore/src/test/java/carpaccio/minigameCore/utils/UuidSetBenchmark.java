@@ -0,0 +1,133 @@
+package carpaccio.minigameCore.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UuidSet contra o HashSet<UUID> que os sistemas de spawn usavam
+ * Rode com main() (ou o plugin JMH da IDE); adicione -prof gc para comparar a alocação
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UuidSetBenchmark {
+
+    @Param({"100", "5000"})
+    private int size;
+
+    private UUID[] ids;
+    private UuidSet uuidSet;
+    private Set<UUID> hashSet;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        ids = new UUID[size];
+        uuidSet = new UuidSet();
+        hashSet = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            ids[i] = new UUID(random.nextLong(), random.nextLong());
+            uuidSet.add(ids[i]);
+            hashSet.add(ids[i]);
+        }
+    }
+
+    // ==========================================
+    // BUSCA
+    // ==========================================
+
+    @Benchmark
+    public boolean containsUuidSet() {
+        return uuidSet.contains(next());
+    }
+
+    @Benchmark
+    public boolean containsHashSet() {
+        return hashSet.contains(next());
+    }
+
+    // ==========================================
+    // ROTATIVIDADE (mob sai e outro entra)
+    // ==========================================
+
+    @Benchmark
+    public boolean churnUuidSet() {
+        UUID id = next();
+        uuidSet.remove(id);
+        return uuidSet.add(id);
+    }
+
+    @Benchmark
+    public boolean churnHashSet() {
+        UUID id = next();
+        hashSet.remove(id);
+        return hashSet.add(id);
+    }
+
+    // ==========================================
+    // ITERAÇÃO
+    // ==========================================
+
+    @Benchmark
+    public long iterateUuidSet() {
+        long sum = 0;
+        for (int i = 0; i < uuidSet.size(); i++) {
+            sum += uuidSet.getMostSignificantBits(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateHashSet() {
+        long sum = 0;
+        for (UUID id : hashSet) {
+            sum += id.getMostSignificantBits();
+        }
+        return sum;
+    }
+
+    // ==========================================
+    // getSpawnedMobs: visão contra cópia defensiva
+    // ==========================================
+
+    @Benchmark
+    public UuidSet.View snapshotUuidSet() {
+        return uuidSet.view();
+    }
+
+    @Benchmark
+    public Set<UUID> snapshotHashSet() {
+        return new HashSet<>(hashSet);
+    }
+
+    private UUID next() {
+        if (++cursor == size) cursor = 0;
+        return ids[cursor];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(UuidSetBenchmark.class.getSimpleName()).build()).run();
+    }
+}
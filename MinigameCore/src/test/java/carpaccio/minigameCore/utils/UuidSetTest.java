@@ -0,0 +1,188 @@
+package carpaccio.minigameCore.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidSetTest {
+
+    // ==========================================
+    // ADIÇÃO / BUSCA
+    // ==========================================
+
+    @Test
+    void addRejectsDuplicatesAndAppendsAtEnd() {
+        UuidSet set = new UuidSet();
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+
+        assertTrue(set.add(a));
+        assertTrue(set.add(b));
+        assertFalse(set.add(new UUID(a.getMostSignificantBits(), a.getLeastSignificantBits())));
+
+        assertEquals(2, set.size());
+        assertEquals(0, set.indexOf(a));
+        assertEquals(1, set.indexOf(b));
+        assertEquals(-1, set.indexOf(UUID.randomUUID()));
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        UuidSet set = new UuidSet(4);
+        List<UUID> ids = randomIds(1000, new Random(1));
+        ids.forEach(set::add);
+
+        assertEquals(1000, set.size());
+        for (UUID id : ids) assertTrue(set.contains(id));
+    }
+
+    // ==========================================
+    // REMOÇÃO
+    // ==========================================
+
+    @Test
+    void removeMovesLastIntoVacatedPosition() {
+        UuidSet set = new UuidSet();
+        List<UUID> ids = randomIds(5, new Random(2));
+        ids.forEach(set::add);
+
+        assertEquals(1, set.remove(ids.get(1)));
+        assertEquals(4, set.size());
+        assertEquals(ids.get(4), set.get(1));
+        assertEquals(1, set.indexOf(ids.get(4)));
+        assertFalse(set.contains(ids.get(1)));
+
+        // Remover o último não move ninguém
+        assertEquals(3, set.remove(ids.get(3)));
+        assertEquals(-1, set.remove(ids.get(3)));
+        assertEquals(3, set.size());
+    }
+
+    @Test
+    void backwardShiftKeepsCollidingEntriesReachable() {
+        // msb ^ lsb igual faz todos caírem no mesmo slot ideal: um único grupo de sondagem
+        UuidSet set = new UuidSet(64);
+        List<UUID> cluster = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            UUID id = new UUID(i, i ^ 0x5DEECE66DL);
+            cluster.add(id);
+            set.add(id);
+        }
+
+        // Remove do meio, do começo e do fim do grupo
+        for (int i : new int[]{20, 0, 39, 7, 21, 22}) {
+            assertTrue(set.remove(cluster.get(i)) >= 0);
+        }
+
+        Set<Integer> removed = Set.of(20, 0, 39, 7, 21, 22);
+        for (int i = 0; i < cluster.size(); i++) {
+            assertEquals(!removed.contains(i), set.contains(cluster.get(i)), "entrada " + i);
+        }
+        assertEquals(34, set.size());
+    }
+
+    @Test
+    void matchesHashSetUnderRandomChurnWithCollisions() {
+        Random random = new Random(3);
+        UuidSet set = new UuidSet(8);
+        Set<UUID> expected = new HashSet<>();
+
+        // Poucos grupos de colisão e vários tamanhos de tabela: cobre grupos que dão a volta na tabela
+        List<UUID> pool = new ArrayList<>();
+        for (int group = 0; group < 12; group++) {
+            long salt = random.nextLong();
+            for (int i = 0; i < 25; i++) pool.add(new UUID(i + group * 1000L, (i + group * 1000L) ^ salt));
+        }
+        pool.addAll(randomIds(200, random));
+
+        for (int op = 0; op < 50_000; op++) {
+            UUID id = pool.get(random.nextInt(pool.size()));
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(id), set.remove(id) >= 0);
+            } else {
+                assertEquals(expected.add(id), set.add(id));
+            }
+            if (op % 1000 == 0) assertSameContents(expected, set);
+        }
+        assertSameContents(expected, set);
+    }
+
+    @Test
+    void clearEmptiesAndAllowsReuse() {
+        UuidSet set = new UuidSet();
+        List<UUID> ids = randomIds(50, new Random(4));
+        ids.forEach(set::add);
+
+        set.clear();
+        assertTrue(set.isEmpty());
+        for (UUID id : ids) assertFalse(set.contains(id));
+
+        assertTrue(set.add(ids.get(0)));
+        assertEquals(0, set.indexOf(ids.get(0)));
+    }
+
+    // ==========================================
+    // ITERAÇÃO / VISÃO
+    // ==========================================
+
+    @Test
+    void iterationByIndexVisitsEveryElementOnce() {
+        UuidSet set = new UuidSet();
+        List<UUID> ids = randomIds(300, new Random(5));
+        ids.forEach(set::add);
+        for (int i = 0; i < 300; i += 3) set.remove(ids.get(i));
+
+        Set<UUID> seen = new HashSet<>();
+        for (int i = 0; i < set.size(); i++) {
+            assertTrue(seen.add(new UUID(set.getMostSignificantBits(i), set.getLeastSignificantBits(i))));
+        }
+        assertEquals(200, seen.size());
+        for (int i = 0; i < 300; i++) assertEquals(i % 3 != 0, seen.contains(ids.get(i)));
+    }
+
+    @Test
+    void viewIsLiveAndNeverCopied() {
+        UuidSet set = new UuidSet();
+        UuidSet.View view = set.view();
+        assertSame(view, set.view());
+
+        UUID id = UUID.randomUUID();
+        set.add(id);
+        assertEquals(1, view.size());
+        assertTrue(view.contains(id));
+        assertEquals(id, view.get(0));
+
+        set.remove(id);
+        assertTrue(view.isEmpty());
+    }
+
+    // ==========================================
+    // PRIVADAS
+    // ==========================================
+
+    private static List<UUID> randomIds(int count, Random random) {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) ids.add(new UUID(random.nextLong(), random.nextLong()));
+        return ids;
+    }
+
+    private static void assertSameContents(Set<UUID> expected, UuidSet set) {
+        assertEquals(expected.size(), set.size());
+        for (UUID id : expected) assertTrue(set.contains(id));
+        for (int i = 0; i < set.size(); i++) {
+            UUID id = set.get(i);
+            assertTrue(expected.contains(id));
+            assertEquals(i, set.indexOf(id));
+        }
+    }
+}